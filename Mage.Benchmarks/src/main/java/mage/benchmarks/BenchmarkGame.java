@@ -0,0 +1,155 @@
+package mage.benchmarks;
+
+import mage.cards.Card;
+import mage.cards.decks.Deck;
+import mage.cards.decks.DeckCardLists;
+import mage.cards.decks.importer.DeckImporter;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.RangeOfInfluence;
+import mage.constants.TurnPhase;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.GameOptions;
+import mage.game.PutToBattlefieldInfo;
+import mage.game.TwoPlayerDuel;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.mulligan.MulliganType;
+import mage.game.permanent.Permanent;
+import mage.game.turn.Phase;
+import mage.game.turn.PreCombatMainStep;
+import mage.player.ai.ComputerPlayer;
+import mage.players.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Benchmarks: fixtures with real decks and board states
+ * <p>
+ * Board state must be same for each run (for comparable results between commits),
+ * so cards distribution between zones doesn't use random
+ */
+public final class BenchmarkGame {
+
+    public static final String DECK_A = "decks/UW Control.dck";
+    public static final String DECK_B = "decks/Power Hungry.dck";
+
+    // commander like mana base: multicolor lands and mana rocks (some with mana costs)
+    public static final List<String> MANA_SOURCES = Arrays.asList(
+            "Command Tower", "City of Brass", "Exotic Orchard",
+            "Hallowed Fountain", "Watery Grave", "Blood Crypt", "Stomping Ground", "Temple Garden",
+            "Godless Shrine", "Steam Vents", "Overgrown Tomb", "Sacred Foundry", "Breeding Pool",
+            "Arcane Signet", "Azorius Signet", "Rakdos Signet", "Golgari Signet", "Sol Ring",
+            "Mana Confluence", "Talisman of Dominance"
+    );
+
+    private static final int BATTLEFIELD_SIZE = 15;
+    private static final int HAND_SIZE = 7;
+
+    private BenchmarkGame() {
+    }
+
+    public static void prepareDatabase() {
+        List<String> errorsList = new ArrayList<>();
+        CardScanner.scan(errorsList);
+        if (!errorsList.isEmpty()) {
+            throw new IllegalStateException("Found errors on card loading: " + String.join("\n", errorsList));
+        }
+    }
+
+    /**
+     * Two players game with filled battlefields and hands, player A has priority
+     */
+    public static Game createMidGame() throws GameException {
+        prepareDatabase();
+
+        Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ONE, MulliganType.GAME_DEFAULT.getMulligan(0), 60, 20, 7);
+        game.setGameOptions(new GameOptions());
+        Match match = new TwoPlayerMatch(new MatchOptions("benchmark match", "benchmark game type", false)); // fake match (needs for game view)
+        Player playerA = addPlayer(game, match, "PlayerA");
+        Player playerB = addPlayer(game, match, "PlayerB");
+
+        // players must be prepared like on game start (range of influence, etc), see GameImpl.init
+        for (Player player : game.getPlayers().values()) {
+            player.beginTurn(game);
+        }
+        game.getState().setActivePlayerId(playerA.getId());
+        game.getState().setPriorityPlayerId(playerA.getId());
+
+        // main phase of player A (playable calculation needs current step)
+        Phase mainPhase = game.getTurn().getPhase(TurnPhase.PRECOMBAT_MAIN);
+        mainPhase.setStep(new PreCombatMainStep());
+        game.getTurn().setPhase(mainPhase);
+
+        putDeckToGame(game, playerA, DECK_A);
+        putDeckToGame(game, playerB, DECK_B);
+        game.applyEffects();
+        return game;
+    }
+
+    /**
+     * Two players game, player A has priority and many mana sources
+     */
+    public static Game createManaGame() throws GameException {
+        Game game = createMidGame();
+        List<PutToBattlefieldInfo> battlefield = new ArrayList<>();
+        for (String cardName : MANA_SOURCES) {
+            CardInfo cardInfo = CardRepository.instance.findCards(cardName).stream().findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Couldn't find card " + cardName));
+            Card card = cardInfo.createCard();
+            battlefield.add(new PutToBattlefieldInfo(card, false));
+        }
+        game.cheat(game.getActivePlayerId(), Collections.emptyList(), Collections.emptyList(), battlefield,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        // untap all like on own turn (some lands enter tapped)
+        for (Permanent permanent : game.getBattlefield().getAllActivePermanents(game.getActivePlayerId())) {
+            permanent.untap(game);
+        }
+        game.applyEffects();
+        return game;
+    }
+
+    private static Player addPlayer(Game game, Match match, String name) {
+        Player player = new ComputerPlayer(name, RangeOfInfluence.ONE);
+        Deck deck = new Deck();
+        game.addPlayer(player, deck);
+        match.addPlayer(player, deck);
+        return player;
+    }
+
+    private static void putDeckToGame(Game game, Player player, String deckFile) throws GameException {
+        DeckCardLists list = DeckImporter.importDeckFromFile(deckFile, false);
+        Deck deck = Deck.load(list, false, false);
+        if (deck.getMaindeckCards().isEmpty()) {
+            throw new IllegalArgumentException("Couldn't load deck " + deckFile);
+        }
+
+        // same cards order for all runs
+        List<Card> cards = new ArrayList<>(deck.getMaindeckCards());
+        cards.sort(Comparator.comparing(Card::getName).thenComparing(Card::getCardNumber));
+
+        List<PutToBattlefieldInfo> battlefield = new ArrayList<>();
+        List<Card> hand = new ArrayList<>();
+        List<Card> library = new ArrayList<>();
+        for (Card card : cards) {
+            if (battlefield.size() < BATTLEFIELD_SIZE && card.isPermanent()) {
+                battlefield.add(new PutToBattlefieldInfo(card, false));
+            } else if (hand.size() < HAND_SIZE) {
+                hand.add(card);
+            } else {
+                library.add(card);
+            }
+        }
+
+        game.cheat(player.getId(), library, hand, battlefield,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+}
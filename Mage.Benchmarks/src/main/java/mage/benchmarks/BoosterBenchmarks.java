@@ -0,0 +1,48 @@
+package mage.benchmarks;
+
+import mage.cards.Card;
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks: boosters generation (draft and sealed tourney starts)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoosterBenchmarks {
+
+    private ExpansionSet setWithRarityRatio;
+    private ExpansionSet setWithCollator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkGame.prepareDatabase();
+        setWithRarityRatio = Sets.findSet("M10");
+        setWithCollator = Sets.findSet("AER");
+    }
+
+    @Benchmark
+    public List<Card> createBooster() {
+        return setWithRarityRatio.createBooster();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Card> createBoosterConcurrent() {
+        // all players open boosters on tourney start
+        return setWithRarityRatio.createBooster();
+    }
+
+    @Benchmark
+    public List<Card> createBoosterWithCollator() {
+        return setWithCollator.createBooster();
+    }
+}
@@ -0,0 +1,77 @@
+package mage.benchmarks;
+
+import mage.cards.Card;
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks: cards database queries (deck loading, boosters generation, deck editor search)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardRepositoryBenchmarks {
+
+    private CardInfo deckCardInfo;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkGame.prepareDatabase();
+        deckCardInfo = CardRepository.instance.findCard("Lightning Bolt");
+    }
+
+    @Benchmark
+    public CardInfo findCardByName() {
+        return CardRepository.instance.findCard("Jace, the Mind Sculptor");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CardInfo findCardByNameConcurrent() {
+        // deck validation, boosters and chat lookups from different threads
+        return CardRepository.instance.findCard("Jace, the Mind Sculptor");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int getCreatureNamesConcurrent() {
+        return CardRepository.instance.getCreatureNames().size();
+    }
+
+    @Benchmark
+    public CardInfo findCardBySetAndNumber() {
+        return CardRepository.instance.findCard("WWK", "31");
+    }
+
+    @Benchmark
+    public List<CardInfo> findSetCommonCreatures() {
+        // similar to booster generation queries
+        return CardRepository.instance.findCards(new CardCriteria()
+                .setCodes("ZEN")
+                .rarities(Rarity.COMMON)
+                .types(CardType.CREATURE));
+    }
+
+    @Benchmark
+    public List<CardInfo> findCardsByNameContains() {
+        // similar to deck editor search
+        return CardRepository.instance.findCards(new CardCriteria()
+                .nameContains("dragon"));
+    }
+
+    @Benchmark
+    public Card createCardFromCardInfo() {
+        // deck loading on game and tourney starts
+        return deckCardInfo.createCard();
+    }
+}
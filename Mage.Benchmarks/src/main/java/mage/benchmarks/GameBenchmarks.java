@@ -0,0 +1,114 @@
+package mage.benchmarks;
+
+import mage.abilities.keyword.FlyingAbility;
+import mage.abilities.mana.ManaOptions;
+import mage.constants.CardType;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.filter.predicate.mageobject.AbilityPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.permanent.Permanent;
+import mage.players.PlayableObjectsList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks: game engine hot paths (used by game loop and AI simulations)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmarks {
+
+    private Game game;
+    private Game manaGame;
+    private GameEvent upkeepEvent;
+    private FilterPermanent tappedFlyingFilter;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        game = BenchmarkGame.createMidGame();
+        manaGame = BenchmarkGame.createManaGame();
+        tappedFlyingFilter = new FilterPermanent("tapped creature with flying");
+        tappedFlyingFilter.add(new AbilityPredicate(FlyingAbility.class));
+        tappedFlyingFilter.add(CardType.CREATURE.getPredicate());
+        tappedFlyingFilter.add(TappedPredicate.TAPPED);
+        upkeepEvent = new GameEvent(GameEvent.EventType.UPKEEP_STEP_PRE, null, null, game.getActivePlayerId());
+    }
+
+    @Benchmark
+    public Game gameCopy() {
+        return game.copy();
+    }
+
+    @Benchmark
+    public Game applyEffects() {
+        game.applyEffects();
+        return game;
+    }
+
+    @Benchmark
+    public Game checkTriggers() {
+        // triggers search only, raised abilities must be cleared to keep same state for each call
+        game.getState().getTriggers().checkStateTriggers(game);
+        game.getState().getTriggers().checkTriggers(upkeepEvent, game);
+        game.getState().clearTriggeredAbilities();
+        return game;
+    }
+
+    @Benchmark
+    public ManaOptions manaOptions() {
+        return game.getPlayer(game.getActivePlayerId()).getManaAvailable(game);
+    }
+
+    @Benchmark
+    public ManaOptions manaOptionsManySources() {
+        return manaGame.getPlayer(manaGame.getActivePlayerId()).getManaAvailable(manaGame);
+    }
+
+    @Benchmark
+    public PlayableObjectsList playableObjects() {
+        // same state (e.g. game view updates for different reasons)
+        return game.getPlayer(game.getActivePlayerId()).getPlayableObjects(game, Zone.ALL);
+    }
+
+    @Benchmark
+    public PlayableObjectsList playableObjectsChangedState() {
+        game.getState().updateVersion();
+        return game.getPlayer(game.getActivePlayerId()).getPlayableObjects(game, Zone.ALL);
+    }
+
+    @Benchmark
+    public List<Permanent> filterOpponentsCreatures() {
+        return game.getBattlefield().getActivePermanents(StaticFilters.FILTER_OPPONENTS_PERMANENT_CREATURE,
+                game.getActivePlayerId(), game);
+    }
+
+    @Benchmark
+    public List<Permanent> filterTappedCreaturesWithFlying() {
+        // slow predicate goes first in the filter (like in many cards)
+        return game.getBattlefield().getActivePermanents(tappedFlyingFilter, game.getActivePlayerId(), game);
+    }
+
+    @Benchmark
+    public int countOpponentCreatures() {
+        // opponent's permanents only (active player has many permanents)
+        UUID opponentId = manaGame.getOpponents(manaGame.getActivePlayerId()).iterator().next();
+        return manaGame.getBattlefield().countAll(StaticFilters.FILTER_PERMANENT_CREATURE, opponentId, manaGame);
+    }
+
+    @Benchmark
+    public List<Permanent> opponentPermanents() {
+        UUID opponentId = manaGame.getOpponents(manaGame.getActivePlayerId()).iterator().next();
+        return manaGame.getBattlefield().getAllActivePermanents(opponentId);
+    }
+}
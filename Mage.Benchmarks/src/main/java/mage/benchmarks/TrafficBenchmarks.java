@@ -0,0 +1,47 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.remote.traffic.TrafficCodec;
+import mage.remote.traffic.TrafficCodecs;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks: network data compression of game updates for each traffic codec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrafficBenchmarks {
+
+    private GameView gameView;
+    private Object compressedGameView;
+
+    @Param({"gzip", "deflate"})
+    private String codecName;
+    private TrafficCodec codec;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Game game = BenchmarkGame.createMidGame();
+        gameView = new GameView(game.getState(), game, game.getActivePlayerId(), null);
+        codec = TrafficCodecs.negotiate(codecName);
+        compressedGameView = CompressUtil.compress(gameView, codec);
+    }
+
+    @Benchmark
+    public Object compressGameView() {
+        return CompressUtil.compress(gameView, codec);
+    }
+
+    @Benchmark
+    public Object decompressGameView() {
+        return CompressUtil.decompress(compressedGameView);
+    }
+}
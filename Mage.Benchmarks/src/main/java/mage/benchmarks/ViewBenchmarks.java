@@ -0,0 +1,39 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.view.GameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks: server side game updates for clients (game view), see TrafficBenchmarks for network data
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewBenchmarks {
+
+    private Game game;
+    private UUID playerId;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        game = BenchmarkGame.createMidGame();
+        playerId = game.getActivePlayerId();
+    }
+
+    @Benchmark
+    public GameView gameViewForPlayer() {
+        return new GameView(game.getState(), game, playerId, null);
+    }
+
+    @Benchmark
+    public GameView gameViewForWatcher() {
+        return new GameView(game.getState(), game, null, null);
+    }
+}
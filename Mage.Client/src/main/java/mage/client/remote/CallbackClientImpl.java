@@ -14,11 +14,13 @@ import mage.client.util.GUISizeHelper;
 import mage.client.util.IgnoreList;
 import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
+import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackType;
 import mage.remote.ActionData;
 import mage.remote.Session;
+import mage.remote.traffic.ZippedDeltaDecoder;
 import mage.util.DebugUtil;
 import mage.view.*;
 import mage.view.ChatMessage.MessageType;
@@ -43,11 +45,13 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private final Map<ClientCallbackType, Integer> lastMessages;
     private final Map<UUID, GameClientMessage> firstGameData;
+    private final ZippedDeltaDecoder gameUpdatesDecoder; // game updates can come as changes from prev data
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
         this.lastMessages = new HashMap<>();
         this.firstGameData = new HashMap<>();
+        this.gameUpdatesDecoder = new ZippedDeltaDecoder();
         Arrays.stream(ClientCallbackType.values()).forEach(t -> this.lastMessages.put(t, 0));
     }
 
@@ -56,11 +60,23 @@ public class CallbackClientImpl implements CallbackClient {
         // must clean temp data for each new connection
         this.lastMessages.clear();
         this.firstGameData.clear();
+        this.gameUpdatesDecoder.clear();
     }
 
     @Override
     public synchronized void onCallback(final ClientCallback callback) {
-        callback.decompressData();
+        if (!callback.decompressData(gameUpdatesDecoder)) {
+            // delta update without full data (possible reason: reconnect, lost or reordered messages),
+            // so ask server for full update
+            logger.warn(String.format("ignore game update %d - %s without full data, possible reason: reconnect or lost messages",
+                    callback.getMessageId(),
+                    callback.getMethod()
+            ));
+            if (callback.isKeyFrameRequired()) {
+                SessionHandler.sendPlayerAction(PlayerAction.CLIENT_REQUEST_FULL_GAME_UPDATE, callback.getObjectId(), null);
+            }
+            return;
+        }
 
         // put replay related code here
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
@@ -0,0 +1,108 @@
+package mage.client.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GUI: shared cache for rendered cards from all render modes
+ * <p>
+ * Rendered images are big (4 bytes per pixel, x4 on 4K screens), so cache uses memory limit instead
+ * items amount and removes last used images first. Keys must contain all data for render (card's view
+ * state, size, etc) and use own classes for each render mode.
+ * <p>
+ * Images kept by soft refs, so GC can free it on low memory (it will be rendered again on next usage).
+ */
+public final class RenderedImagesCache {
+
+    // max 20% of the client's memory
+    private static final long MAX_CACHE_SIZE_IN_BYTES = Runtime.getRuntime().maxMemory() / 5;
+
+    // total weight of the cached images, weigher is called once per stored image and removal listener once per removed
+    // (replaced, expired, evicted or flushed), so stats don't need to iterate over all images
+    // (it includes images freed by GC until its items removed from the cache)
+    private static final AtomicLong CACHED_SIZE_IN_BYTES = new AtomicLong();
+
+    // cache keeps small items with soft refs to images instead soft values, so removal listener knows
+    // the size of images freed by GC
+    private static final Cache<Object, SoftImage> RENDERED_IMAGES_CACHE = ImageCaches.register(
+            CacheBuilder.newBuilder()
+                    .maximumWeight(MAX_CACHE_SIZE_IN_BYTES)
+                    .weigher((Object key, SoftImage image) -> {
+                        CACHED_SIZE_IN_BYTES.addAndGet(image.size);
+                        return image.size;
+                    })
+                    .removalListener((RemovalNotification<Object, SoftImage> notification) ->
+                            CACHED_SIZE_IN_BYTES.addAndGet(-notification.getValue().size))
+                    .expireAfterAccess(60, TimeUnit.MINUTES)
+                    .recordStats()
+                    .build()
+    );
+
+    private RenderedImagesCache() {
+    }
+
+    /**
+     * Find rendered image or render new one
+     *
+     * @param key    all render params
+     * @param render must return not null image
+     */
+    public static BufferedImage get(Object key, Callable<BufferedImage> render) {
+        try {
+            BufferedImage image = RENDERED_IMAGES_CACHE.get(key, () -> new SoftImage(render.call())).get();
+            if (image == null) {
+                // freed by GC, so render it again
+                image = render.call();
+                RENDERED_IMAGES_CACHE.put(key, new SoftImage(image));
+            }
+            return image;
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            throw new IllegalStateException("Can't render image: " + e.getCause(), e.getCause());
+        } catch (Exception e) {
+            throw new IllegalStateException("Can't render image: " + e, e);
+        }
+    }
+
+    public static long getSizeInBytes() {
+        return CACHED_SIZE_IN_BYTES.get();
+    }
+
+    /**
+     * Cache usage info for GUI and logs like "rendered cards: 50 MB of 200 MB, hits 95%"
+     */
+    public static String getStats() {
+        CacheStats stats = RENDERED_IMAGES_CACHE.stats();
+        return String.format("rendered cards: %d MB of %d MB, hits %d%%, evictions %d",
+                getSizeInBytes() / (1024 * 1024),
+                MAX_CACHE_SIZE_IN_BYTES / (1024 * 1024),
+                Math.round(stats.hitRate() * 100),
+                stats.evictionCount()
+        );
+    }
+
+    public static int getImageSizeInBytes(BufferedImage image) {
+        // cache's weight can't be 0
+        return image == null ? 1 : Math.max(1, image.getWidth() * image.getHeight() * 4);
+    }
+
+    private static final class SoftImage extends SoftReference<BufferedImage> {
+
+        private final int size;
+
+        private SoftImage(BufferedImage image) {
+            super(image);
+            this.size = getImageSizeInBytes(image);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package mage.client.util.stats;
 import mage.client.dialog.PreferencesDialog;
+import mage.client.util.RenderedImagesCache;
 
 import java.awt.*;
 import java.util.List;
@@ -79,7 +80,8 @@ public class UpdateMemUsageTask extends SwingWorker<Void, MemoryStats> {
                     jLabelToDisplayInfo.setForeground(PreferencesDialog.getCurrentTheme().getTextColor());
                 }
 
-                this.jLabelToDisplayInfo.setToolTipText("<html>Memory usage statistics" + warning + optimizeHint);
+                String cachesInfo = "<br><br>Images cache: " + RenderedImagesCache.getStats();
+                this.jLabelToDisplayInfo.setToolTipText("<html>Memory usage statistics" + cachesInfo + warning + optimizeHint);
 
                 return;
             }
@@ -5,9 +5,8 @@ import mage.cards.MageCardLocation;
 import mage.cards.action.ActionCallback;
 import mage.client.dialog.PreferencesDialog;
 import mage.client.util.GUISizeHelper;
-import mage.client.util.ImageCaches;
 import mage.client.util.ImageHelper;
-import mage.client.util.SoftValuesLoadingCache;
+import mage.client.util.RenderedImagesCache;
 import mage.components.ImagePanel;
 import mage.components.ImagePanelStyle;
 import mage.constants.AbilityType;
@@ -36,8 +35,6 @@ public class CardPanelRenderModeImage extends CardPanel {
 
     private static final long serialVersionUID = -3272134219262184411L;
 
-    private static final SoftValuesLoadingCache<Key, BufferedImage> IMAGE_MODE_RENDERED_CACHE = ImageCaches.register(SoftValuesLoadingCache.from(CardPanelRenderModeImage::createImage));
-
     private static final int WIDTH_LIMIT = 90; // card width limit to create smaller counter
 
     private static final float ROUNDED_CORNER_SIZE = 0.1f;
@@ -494,15 +491,15 @@ public class CardPanelRenderModeImage extends CardPanel {
 
         // draw background (selected/chooseable/playable)
         MageCardLocation cardLocation = getCardLocation();
+        Key key = new Key(getInsets(),
+                cardLocation.getCardWidth(), cardLocation.getCardHeight(),
+                cardLocation.getCardWidth(), cardLocation.getCardHeight(),
+                0,
+                0,
+                hasImage, isSelected(), isChoosable(), getGameCard().isPlayable(), getGameCard().isCanAttack(),
+                getGameCard().isCanBlock());
         g2d.drawImage(
-                IMAGE_MODE_RENDERED_CACHE.getOrThrow(
-                        new Key(getInsets(),
-                                cardLocation.getCardWidth(), cardLocation.getCardHeight(),
-                                cardLocation.getCardWidth(), cardLocation.getCardHeight(),
-                                0,
-                                0,
-                                hasImage, isSelected(), isChoosable(), getGameCard().isPlayable(), getGameCard().isCanAttack(),
-                                getGameCard().isCanBlock())),
+                RenderedImagesCache.get(key, () -> createImage(key)),
                 0, 0, cardLocation.getCardWidth(), cardLocation.getCardHeight(), null);
         g2d.dispose();
     }
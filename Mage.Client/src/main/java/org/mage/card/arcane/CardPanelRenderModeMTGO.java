@@ -1,9 +1,7 @@
 package org.mage.card.arcane;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import mage.cards.action.ActionCallback;
-import mage.client.util.ImageCaches;
+import mage.client.util.RenderedImagesCache;
 import mage.constants.CardType;
 import mage.constants.SubType;
 import mage.constants.SuperType;
@@ -16,28 +14,17 @@ import org.mage.plugins.card.images.ImageCache;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Render mode: MTGO
  */
 public class CardPanelRenderModeMTGO extends CardPanel {
 
-    // TODO: share code and use for all images/rendering (potential injection point - images cache), see #969
     private static final boolean MTGO_MODE_RENDER_SMOOTH_IMAGES_ENABLED = false;
     private static final int MTGO_MODE_RENDER_SCALED_IMAGES_COEF = 1; // TODO: experiment with scale settings, is it useful to render in x2-x4 sizes?
 
     // https://www.mtg.onl/evolution-of-magic-token-card-frame-design/
 
-    private static final Cache<ImageKey, BufferedImage> MTGO_MODE_RENDERED_CACHE = ImageCaches.register(
-            CacheBuilder
-                    .newBuilder()
-                    .maximumSize(3000)
-                    .expireAfterAccess(60, TimeUnit.MINUTES)
-                    .softValues()
-                    .build()
-    );
-
     // The art image for the card, loaded in from the disk
     private BufferedImage artImage;
 
@@ -178,12 +165,8 @@ public class CardPanelRenderModeMTGO extends CardPanel {
                     isSelected(),
                     isTransformed()
             );
-            try {
-                cardImage = MTGO_MODE_RENDERED_CACHE.get(key, this::renderCard);
-            } catch (Exception e) {
-                // TODO: research and replace with logs, message and backface image
-                throw new RuntimeException(e);
-            }
+            // TODO: research and replace render errors with logs, message and backface image
+            cardImage = RenderedImagesCache.get(key, this::renderCard);
         }
 
         // And draw the image we now have
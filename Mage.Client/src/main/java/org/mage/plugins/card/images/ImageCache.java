@@ -1,8 +1,11 @@
 package org.mage.plugins.card.images;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import mage.abilities.icon.CardIconColor;
 import mage.client.constants.Constants;
 import mage.client.util.ImageCaches;
+import mage.client.util.RenderedImagesCache;
 import mage.client.util.SoftValuesLoadingCache;
 import mage.client.util.TransformedImageCache;
 import mage.view.CardView;
@@ -25,6 +28,9 @@ import java.util.regex.Pattern;
  * that the images may be garbage collected when they are not needed any more,
  * but will be kept as long as possible.
  * <p>
+ * Scaled images for card panels are stored in additional cache with soft values and limited memory size, so
+ * visible cards don't need to load and decode full image from the disk again after card size changes.
+ * <p>
  * It used to refresh themes at runtime too. Use GUISizeHelper.refreshGUIAndCards()
  *
  * @author JayDi85
@@ -37,6 +43,13 @@ public final class ImageCache {
     private static final SoftValuesLoadingCache<String, ImageCacheData> SHARED_CARD_IMAGES_CACHE = ImageCaches.register(SoftValuesLoadingCache.from(ImageCache::createCardOrTokenImage));
     private static final SoftValuesLoadingCache<String, ImageCacheData> SHARED_CARD_ICONS_CACHE = ImageCaches.register(SoftValuesLoadingCache.from(ImageCache::createIcon));
 
+    // scaled images for card panels (last used, max 10% of the client's memory, GC can free it on low memory)
+    private static final Cache<String, ImageCacheData> SHARED_SCALED_CARD_IMAGES_CACHE = ImageCaches.register(CacheBuilder.newBuilder()
+            .maximumWeight(Runtime.getRuntime().maxMemory() / 10)
+            .weigher((String key, ImageCacheData data) -> RenderedImagesCache.getImageSizeInBytes(data.getImage()))
+            .softValues()
+            .build());
+
     // format: name #setcode #imagenumber #cardnumber #size #usesVariousArt
     private static final Pattern CARD_IMAGE_KEY_PATTERN = Pattern.compile("(.*)#(.*)#(.*)#(.*)#(.*)");
 
@@ -316,19 +329,20 @@ public final class ImageCache {
      */
     public static ImageCacheData getCardImage(CardView card, int width, int height) {
         String key = getKey(card, card.getName(), width);
-        ImageCacheData data = getCardImage(key);
-        if (data.getImage() == null) {
-            LOGGER.debug("Image doesn't exists in the cache: " + key);
+        ImageCacheData data = SHARED_SCALED_CARD_IMAGES_CACHE.getIfPresent(key);
+        if (data != null) {
             return data;
         }
 
-        double scale = Math.min((double) width / data.getImage().getWidth(), (double) height / data.getImage().getHeight());
-        if (scale >= 1) {
+        // scaled images use same original image (it loads from the disk one time only)
+        data = getCardImage(getKey(card, card.getName(), 0));
+        if (data.getImage() == null) {
+            LOGGER.debug("Image doesn't exists in the cache: " + key);
             return data;
         }
 
-        BufferedImage newImage = TransformedImageCache.getResizedImage(data.getImage(), (int) (data.getImage().getWidth() * scale), (int) (data.getImage().getHeight() * scale));
-        data.setImage(newImage);
+        data = getScaledImage(data, width, height);
+        SHARED_SCALED_CARD_IMAGES_CACHE.put(key, data);
         return data;
     }
 
@@ -344,20 +358,28 @@ public final class ImageCache {
      */
     public static ImageCacheData tryGetImage(CardView card, int width, int height) {
         String key = getKey(card, card.getName(), width);
-        ImageCacheData data = tryGetImage(key);
-        if (data.getImage() == null) {
-            LOGGER.debug(key + " not found");
+        ImageCacheData data = SHARED_SCALED_CARD_IMAGES_CACHE.getIfPresent(key);
+        if (data != null) {
             return data;
         }
 
-        double scale = Math.min((double) width / data.getImage().getWidth(), (double) height / data.getImage().getHeight());
-        if (scale >= 1) {
-            return data;
+        data = tryGetImage(getKey(card, card.getName(), 0));
+        if (data == null || data.getImage() == null) {
+            LOGGER.debug(key + " not found");
+            return data != null ? data : new ImageCacheData("ERROR: key - " + key, null);
         }
 
-        BufferedImage newImage = TransformedImageCache.getResizedImage(data.getImage(), (int) (data.getImage().getWidth() * scale), (int) (data.getImage().getHeight() * scale));
-        data.setImage(newImage);
-        return data;
+        return getScaledImage(data, width, height);
+    }
+
+    private static ImageCacheData getScaledImage(ImageCacheData original, int width, int height) {
+        // original data is shared by cache, so scaled image must be stored in new data
+        BufferedImage image = original.getImage();
+        double scale = Math.min((double) width / image.getWidth(), (double) height / image.getHeight());
+        if (scale < 1) {
+            image = TransformedImageCache.getResizedImage(image, (int) (image.getWidth() * scale), (int) (image.getHeight() * scale));
+        }
+        return new ImageCacheData(original.getPath(), image);
     }
 
     public static TFile getTFile(String path) {
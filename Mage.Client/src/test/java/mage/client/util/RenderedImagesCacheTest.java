@@ -0,0 +1,34 @@
+package mage.client.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.assertEquals;
+
+public class RenderedImagesCacheTest {
+
+    @Before
+    public void setUp() {
+        ImageCaches.clearAll();
+    }
+
+    @After
+    public void tearDown() {
+        ImageCaches.clearAll();
+    }
+
+    @Test
+    public void sizeTracksAddedAndClearedImages() {
+        RenderedImagesCache.get("test-a", () -> new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        RenderedImagesCache.get("test-b", () -> new BufferedImage(20, 10, BufferedImage.TYPE_INT_RGB));
+        // already cached, must not render or count again
+        RenderedImagesCache.get("test-a", () -> new BufferedImage(50, 50, BufferedImage.TYPE_INT_RGB));
+        assertEquals((10 * 10 + 20 * 10) * 4, RenderedImagesCache.getSizeInBytes());
+
+        ImageCaches.clearAll();
+        assertEquals(0, RenderedImagesCache.getSizeInBytes());
+    }
+}
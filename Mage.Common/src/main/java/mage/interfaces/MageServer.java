@@ -38,6 +38,9 @@ public interface MageServer {
 
     boolean connectSetUserData(String userName, String sessionId, UserData userData, String clientVersion, String userIdStr) throws MageException;
 
+    // select codec for server's data, returns selected codec name
+    String connectSetTrafficCodec(String sessionId, String preferredCodecs) throws MageException;
+
     boolean ping(String sessionId, String pingInfo) throws MageException;
     
     void serverAddFeedbackMessage(String sessionId, String username, String title, String type, String message, String email) throws MageException;
@@ -165,6 +168,8 @@ public interface MageServer {
 
     List<UserView> adminGetUsers(String sessionId) throws MageException;
 
+    List<String> adminGetAiStats(String sessionId) throws MageException;
+
     void adminDisconnectUser(String sessionId, String userSessionId) throws MageException;
 
     void adminEndUserSession(String sessionId, String userSessionId) throws MageException;
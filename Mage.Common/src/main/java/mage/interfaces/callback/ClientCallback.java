@@ -1,5 +1,8 @@
 package mage.interfaces.callback;
 
+import mage.remote.traffic.TrafficCodec;
+import mage.remote.traffic.ZippedDeltaDecoder;
+import mage.remote.traffic.ZippedDeltaObject;
 import mage.remote.traffic.ZippedObject;
 import mage.utils.CompressUtil;
 import mage.util.ThreadUtils;
@@ -26,6 +29,8 @@ public class ClientCallback implements Serializable {
     private Object data;
     private ClientCallbackMethod method;
     private int messageId;
+    private transient boolean compressRequired; // server side: data will be compressed by connection's codec before send
+    private transient boolean keyFrameRequired; // client side: data can't be restored without full data from server
 
     public ClientCallback(ClientCallbackMethod method, UUID objectId) {
         this(method, objectId, null);
@@ -67,11 +72,18 @@ public class ClientCallback implements Serializable {
         return data;
     }
 
-    public void setData(Object data, boolean useCompress) {
-        if (!useCompress || data == null || data instanceof ZippedObject) {
-            this.data = data;
-        } else {
-            this.data = CompressUtil.compress(data);
+    public synchronized void setData(Object data, boolean useCompress) {
+        this.data = data;
+        this.compressRequired = useCompress && data != null && !(data instanceof ZippedObject);
+    }
+
+    /**
+     * Server side: compress data before send (same callback can be sent to many connections, so it compresses one time)
+     */
+    public synchronized void compressData(TrafficCodec codec) {
+        if (this.compressRequired) {
+            this.data = CompressUtil.compress(this.data, codec);
+            this.compressRequired = false;
             simulateBadConnection();
         }
     }
@@ -83,6 +95,34 @@ public class ClientCallback implements Serializable {
         }
     }
 
+    /**
+     * Decompress data with deltas support (e.g. game updates)
+     *
+     * @return false if data can't be restored (delta frame without key frame), so message must be ignored
+     * and full data must be requested from server (see isKeyFrameRequired)
+     */
+    public boolean decompressData(ZippedDeltaDecoder deltaDecoder) {
+        if (this.data instanceof ZippedDeltaObject) {
+            ZippedDeltaObject<?> deltaObject = (ZippedDeltaObject<?>) this.data;
+            this.data = deltaDecoder.decode(deltaObject);
+            simulateBadConnection();
+            if (this.data == null) {
+                this.keyFrameRequired = deltaDecoder.requestKeyFrame(deltaObject.getStreamId());
+                return false;
+            }
+            return true;
+        }
+        decompressData();
+        return true;
+    }
+
+    /**
+     * Client side: data can't be restored, full data must be requested from server (one time per lost data)
+     */
+    public boolean isKeyFrameRequired() {
+        return keyFrameRequired;
+    }
+
     public ClientCallbackMethod getMethod() {
         return method;
     }
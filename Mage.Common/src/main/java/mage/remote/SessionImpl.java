@@ -14,6 +14,7 @@ import mage.interfaces.callback.ClientCallback;
 import mage.players.PlayerType;
 import mage.players.net.UserData;
 import mage.util.ThreadUtils;
+import mage.remote.traffic.TrafficCodecs;
 import mage.utils.CompressUtil;
 import mage.view.*;
 import org.apache.log4j.Logger;
@@ -271,6 +272,10 @@ public class SessionImpl implements Session {
                 }
 
                 if (result) {
+                    // network codec for server's data
+                    String codecName = server.connectSetTrafficCodec(sessionId, TrafficCodecs.getPreferredCodecs());
+                    logger.info("Logging: traffic codec " + codecName);
+
                     // server state used in client side to setup game panels and dialogs, e.g. test mode info or available game types
                     serverState = server.getServerState();
                     if (serverState == null) {
@@ -1564,6 +1569,20 @@ public class SessionImpl implements Session {
         return null;
     }
 
+    @Override
+    public List<String> getAiStats() {
+        try {
+            if (isConnected()) {
+                return server.adminGetAiStats(sessionId);
+            }
+        } catch (MageException ex) {
+            handleMageException(ex);
+        } catch (Throwable t) {
+            handleThrowable(t);
+        }
+        return null;
+    }
+
     @Override
     public List<String> getServerMessages() {
         try {
@@ -19,6 +19,8 @@ public interface ServerState {
 
     List<UserView> getUsers();
 
+    List<String> getAiStats(); // admin only
+
     Collection<RoomUsersView> getRoomUsers (UUID roomId) throws MageRemoteException;
     
     List<String> getServerMessages();
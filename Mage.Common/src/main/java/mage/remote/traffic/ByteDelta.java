@@ -0,0 +1,158 @@
+package mage.remote.traffic;
+
+import java.io.*;
+
+/**
+ * Network: binary delta between two byte arrays (e.g. serialized game views)
+ * <p>
+ * Delta contains copy commands (block from the base data) and insert commands (new data),
+ * so it can be restored on the other side with same base data only. Blocks search uses
+ * rolling hash like rsync.
+ */
+public final class ByteDelta {
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int HASH_MULTIPLIER = 31;
+
+    private static final byte COMMAND_COPY = 1;
+    private static final byte COMMAND_INSERT = 2;
+    private static final byte COMMAND_END = 0;
+
+    private ByteDelta() {
+    }
+
+    public static byte[] create(byte[] base, byte[] target) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(32, target.length / 4));
+        try (DataOutputStream out = new DataOutputStream(bos)) {
+            out.writeInt(target.length);
+            if (base.length < BLOCK_SIZE || target.length < BLOCK_SIZE) {
+                writeInsert(out, target, 0, target.length);
+                out.writeByte(COMMAND_END);
+                out.flush();
+                return bos.toByteArray();
+            }
+
+            // index base blocks by hash (first block wins)
+            int blocksCount = base.length / BLOCK_SIZE;
+            int hashBits = 32 - Integer.numberOfLeadingZeros(Math.max(1, blocksCount * 2 - 1));
+            int[] blocks = new int[1 << hashBits]; // block's offset + 1, 0 for empty
+            for (int offset = (blocksCount - 1) * BLOCK_SIZE; offset >= 0; offset -= BLOCK_SIZE) {
+                blocks[index(hash(base, offset), hashBits)] = offset + 1;
+            }
+
+            int highPower = 1;
+            for (int i = 1; i < BLOCK_SIZE; i++) {
+                highPower *= HASH_MULTIPLIER;
+            }
+
+            int insertStart = 0;
+            int pos = 0;
+            int hash = hash(target, 0);
+            while (pos + BLOCK_SIZE <= target.length) {
+                int baseOffset = blocks[index(hash, hashBits)] - 1;
+                if (baseOffset >= 0 && equalBlocks(base, baseOffset, target, pos)) {
+                    // extend found block in both directions
+                    int start = pos;
+                    int baseStart = baseOffset;
+                    while (start > insertStart && baseStart > 0 && target[start - 1] == base[baseStart - 1]) {
+                        start--;
+                        baseStart--;
+                    }
+                    int end = pos + BLOCK_SIZE;
+                    int baseEnd = baseOffset + BLOCK_SIZE;
+                    while (end < target.length && baseEnd < base.length && target[end] == base[baseEnd]) {
+                        end++;
+                        baseEnd++;
+                    }
+
+                    writeInsert(out, target, insertStart, start - insertStart);
+                    out.writeByte(COMMAND_COPY);
+                    out.writeInt(baseStart);
+                    out.writeInt(end - start);
+
+                    pos = end;
+                    insertStart = end;
+                    if (pos + BLOCK_SIZE <= target.length) {
+                        hash = hash(target, pos);
+                    }
+                    continue;
+                }
+
+                // rolling hash to next position
+                if (pos + BLOCK_SIZE < target.length) {
+                    hash = (hash - target[pos] * highPower) * HASH_MULTIPLIER + target[pos + BLOCK_SIZE];
+                }
+                pos++;
+            }
+            writeInsert(out, target, insertStart, target.length - insertStart);
+            out.writeByte(COMMAND_END);
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't create delta data: " + e.getMessage(), e);
+        }
+        return bos.toByteArray();
+    }
+
+    public static byte[] apply(byte[] base, byte[] delta) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta))) {
+            byte[] res = new byte[in.readInt()];
+            int pos = 0;
+            while (true) {
+                byte command = in.readByte();
+                switch (command) {
+                    case COMMAND_COPY: {
+                        int offset = in.readInt();
+                        int length = in.readInt();
+                        System.arraycopy(base, offset, res, pos, length);
+                        pos += length;
+                        break;
+                    }
+                    case COMMAND_INSERT: {
+                        int length = in.readInt();
+                        in.readFully(res, pos, length);
+                        pos += length;
+                        break;
+                    }
+                    case COMMAND_END:
+                        if (pos != res.length) {
+                            throw new IllegalStateException("Wrong delta data: restored size " + pos + " instead " + res.length);
+                        }
+                        return res;
+                    default:
+                        throw new IllegalStateException("Wrong delta data: unknown command " + command);
+                }
+            }
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Wrong delta data: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeInsert(DataOutputStream out, byte[] data, int offset, int length) throws IOException {
+        if (length > 0) {
+            out.writeByte(COMMAND_INSERT);
+            out.writeInt(length);
+            out.write(data, offset, length);
+        }
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int res = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            res = res * HASH_MULTIPLIER + data[i];
+        }
+        return res;
+    }
+
+    private static int index(int hash, int hashBits) {
+        return (hash * 0x9E3779B1) >>> (32 - hashBits);
+    }
+
+    private static boolean equalBlocks(byte[] base, int baseOffset, byte[] target, int targetOffset) {
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (base[baseOffset + i] != target[targetOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
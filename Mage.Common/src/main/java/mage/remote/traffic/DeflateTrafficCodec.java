@@ -0,0 +1,174 @@
+package mage.remote.traffic;
+
+import mage.view.*;
+
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Network: fast codec for frequent data like game updates
+ * <p>
+ * Uses raw deflate with fastest level and reusable deflaters (native buffers creates one time per pool's item).
+ * Java serialization writes class descriptions (class names, fields and types) to each stream, so it uses
+ * preset dictionary with descriptions of view classes - it's a big part of small messages. Dictionary builds
+ * from the classes itself, so client and server must use same version (it's checked on connect).
+ * <p>
+ * Data format: raw data size (4 bytes) + deflated data
+ */
+public class DeflateTrafficCodec implements TrafficCodec {
+
+    public static final byte ID = 2;
+    public static final String NAME = "deflate";
+
+    private static final int MAX_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    // raw data size comes from other side, so check it before buffer allocation (protection from broken or
+    // malicious data), deflate can't compress more than 1032:1
+    private static final int MAX_RAW_DATA_SIZE = 128 * 1024 * 1024;
+    private static final int MAX_DEFLATE_RATIO = 1032;
+
+    // most used classes must be at the end (deflate prefers nearest matches)
+    private static final List<Class<?>> DICTIONARY_CLASSES = Arrays.asList(
+            ArrayList.class,
+            HashMap.class,
+            LinkedHashMap.class,
+            GameClientMessage.class,
+            GameView.class,
+            PlayerView.class,
+            ManaPoolView.class,
+            CombatGroupView.class,
+            ExileView.class,
+            RevealedView.class,
+            LookedAtView.class,
+            StackAbilityView.class,
+            AbilityView.class,
+            CommandObjectView.class,
+            EmblemView.class,
+            CounterView.class,
+            CardsView.class,
+            SimpleCardView.class,
+            CardView.class,
+            PermanentView.class,
+            UUID.class
+    );
+
+    private static final byte[] DICTIONARY = createDictionary();
+
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] compress(byte[] rawData) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.BEST_SPEED, true);
+        }
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(rawData);
+            deflater.finish();
+
+            byte[] res = new byte[Math.max(64, rawData.length / 2)];
+            writeInt(res, rawData.length);
+            int size = 4;
+            while (!deflater.finished()) {
+                if (size == res.length) {
+                    res = Arrays.copyOf(res, res.length * 2);
+                }
+                size += deflater.deflate(res, size, res.length - size);
+            }
+            return Arrays.copyOf(res, size);
+        } finally {
+            deflater.reset();
+            if (deflaters.size() < MAX_POOL_SIZE) {
+                deflaters.offer(deflater);
+            } else {
+                deflater.end();
+            }
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] data) {
+        if (data.length < 4) {
+            throw new IllegalStateException("Can't unzip data: wrong data size " + data.length);
+        }
+        int rawSize = readInt(data);
+        if (rawSize < 0 || rawSize > MAX_RAW_DATA_SIZE || rawSize > (long) (data.length - 4) * MAX_DEFLATE_RATIO) {
+            throw new IllegalStateException("Can't unzip data: wrong raw data size " + rawSize + " for data size " + data.length);
+        }
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            inflater.setDictionary(DICTIONARY);
+            inflater.setInput(data, 4, data.length - 4);
+
+            byte[] res = new byte[rawSize];
+            int size = 0;
+            while (size < res.length) {
+                int count = inflater.inflate(res, size, res.length - size);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Can't unzip data: unexpected end of data");
+                }
+                size += count;
+            }
+            return res;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Can't unzip data: " + e.getMessage(), e);
+        } finally {
+            inflater.reset();
+            if (inflaters.size() < MAX_POOL_SIZE) {
+                inflaters.offer(inflater);
+            } else {
+                inflater.end();
+            }
+        }
+    }
+
+    private static byte[] createDictionary() {
+        StringBuilder sb = new StringBuilder();
+        for (Class<?> clazz : DICTIONARY_CLASSES) {
+            ObjectStreamClass desc = ObjectStreamClass.lookup(clazz);
+            if (desc == null) {
+                continue;
+            }
+            sb.append(desc.getName());
+            for (ObjectStreamField field : desc.getFields()) {
+                sb.append(field.getName());
+                if (!field.isPrimitive()) {
+                    sb.append(field.getTypeString());
+                }
+            }
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeInt(byte[] data, int value) {
+        data[0] = (byte) (value >>> 24);
+        data[1] = (byte) (value >>> 16);
+        data[2] = (byte) (value >>> 8);
+        data[3] = (byte) value;
+    }
+
+    private static int readInt(byte[] data) {
+        return ((data[0] & 0xFF) << 24) | ((data[1] & 0xFF) << 16) | ((data[2] & 0xFF) << 8) | (data[3] & 0xFF);
+    }
+}
@@ -0,0 +1,54 @@
+package mage.remote.traffic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Network: default codec with best compression and without any preparation (new gzip stream for each data)
+ */
+public class GzipTrafficCodec implements TrafficCodec {
+
+    public static final byte ID = 1;
+    public static final String NAME = "gzip";
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] compress(byte[] rawData) {
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            GZIPOutputStream gz = new GZIPOutputStream(bos);
+            gz.write(rawData);
+            gz.close();
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't zip data: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] data) {
+        try (GZIPInputStream gz = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = gz.read(buffer)) > 0) {
+                bos.write(buffer, 0, count);
+            }
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't unzip data: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package mage.remote.traffic;
+
+/**
+ * Network: compression codec for client-server traffic (see {@link TrafficCodecs})
+ * <p>
+ * Compressed data keeps codec's id, so receiver can decompress it without any settings.
+ * Codec for server's data negotiates on connect (client sends preferred codecs).
+ */
+public interface TrafficCodec {
+
+    /**
+     * Unique id, stored in compressed data
+     */
+    byte getId();
+
+    /**
+     * Unique name, used in codec negotiation
+     */
+    String getName();
+
+    byte[] compress(byte[] rawData);
+
+    byte[] decompress(byte[] data);
+}
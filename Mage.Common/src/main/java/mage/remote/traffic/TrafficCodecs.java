@@ -0,0 +1,98 @@
+package mage.remote.traffic;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Network: all supported traffic codecs and codec negotiation
+ * <p>
+ * How it works:
+ * - client sends preferred codecs on connect (by priority);
+ * - server selects first supported codec and uses it for all data to that client;
+ * - any side can decompress any data (codec's id stored in data).
+ * <p>
+ * How to add new codec: implement {@link TrafficCodec} with new id and add it to the codecs list
+ */
+public final class TrafficCodecs {
+
+    // client side: preferred codecs for server's data, add java param like -Dxmage.network.codec=gzip or -Dxmage.network.codec=deflate,gzip
+    private static final String CODEC_PROPERTY = "xmage.network.codec";
+
+    public static final TrafficCodec GZIP = new GzipTrafficCodec();
+    public static final TrafficCodec DEFLATE = new DeflateTrafficCodec();
+
+    // by priority
+    private static final List<TrafficCodec> codecs = Arrays.asList(DEFLATE, GZIP);
+
+    private TrafficCodecs() {
+    }
+
+    /**
+     * Codec for connections without negotiation
+     */
+    public static TrafficCodec getDefault() {
+        return GZIP;
+    }
+
+    public static TrafficCodec getById(byte id) {
+        for (TrafficCodec codec : codecs) {
+            if (codec.getId() == id) {
+                return codec;
+            }
+        }
+        throw new IllegalStateException("Unknown traffic codec id " + id);
+    }
+
+    /**
+     * Client side: preferred codecs in negotiation format, e.g. "deflate,gzip"
+     */
+    public static String getPreferredCodecs() {
+        String preferred = System.getProperty(CODEC_PROPERTY);
+        if (preferred != null && !preferred.trim().isEmpty()) {
+            return preferred.trim();
+        }
+        return codecs.stream().map(TrafficCodec::getName).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Server side: find codec for the client
+     *
+     * @param preferredCodecs client's codecs by priority, e.g. "deflate,gzip"
+     * @return first supported codec or default codec
+     */
+    public static TrafficCodec negotiate(String preferredCodecs) {
+        if (preferredCodecs != null) {
+            for (String name : preferredCodecs.split(",")) {
+                for (TrafficCodec codec : codecs) {
+                    if (codec.getName().equalsIgnoreCase(name.trim())) {
+                        return codec;
+                    }
+                }
+            }
+        }
+        return getDefault();
+    }
+
+    static byte[] serialize(Object object) {
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ObjectOutputStream oos = new ObjectOutputStream(bos);
+            oos.writeObject(object);
+            oos.close();
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't serialize data: " + e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T deserialize(byte[] rawData) {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(rawData))) {
+            return (T) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Can't deserialize data: " + e.getMessage(), e);
+        }
+    }
+}
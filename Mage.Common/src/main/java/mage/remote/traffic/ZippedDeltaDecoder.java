@@ -0,0 +1,72 @@
+package mage.remote.traffic;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Network: client side decoder for data from {@link ZippedDeltaEncoder}
+ * <p>
+ * Keeps last key frame for each stream, so it must be cleared on new connection
+ */
+public class ZippedDeltaDecoder {
+
+    private static final int MAX_STREAMS = 16; // e.g. watching games
+
+    private final Map<UUID, KeyFrame> keyFrames = new LinkedHashMap<UUID, KeyFrame>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, KeyFrame> eldest) {
+            return size() > MAX_STREAMS;
+        }
+    };
+    private final Set<UUID> requestedKeyFrames = new HashSet<>(); // streams without key frame, waiting it from server
+
+    /**
+     * @return restored object or null if it's delta frame without known key frame (e.g. after reconnect)
+     */
+    public synchronized <T> T decode(ZippedDeltaObject<T> object) {
+        byte[] rawData = object.getRawData();
+        if (!object.isDelta()) {
+            // outdated key frame (reordered messages) must not replace new key frame
+            KeyFrame prevKeyFrame = keyFrames.get(object.getStreamId());
+            if (prevKeyFrame == null || prevKeyFrame.id <= object.getKeyFrameId()) {
+                keyFrames.put(object.getStreamId(), new KeyFrame(object.getKeyFrameId(), rawData));
+                requestedKeyFrames.remove(object.getStreamId());
+            }
+            return TrafficCodecs.deserialize(rawData);
+        }
+
+        KeyFrame keyFrame = keyFrames.get(object.getStreamId());
+        if (keyFrame == null || keyFrame.id != object.getKeyFrameId()) {
+            return null;
+        }
+        return TrafficCodecs.deserialize(ByteDelta.apply(keyFrame.data, rawData));
+    }
+
+    /**
+     * Delta frame can't be restored (lost or reordered key frame), so client must request key frame from server
+     *
+     * @return true if request must be sent (one request per stream until key frame comes)
+     */
+    public synchronized boolean requestKeyFrame(UUID streamId) {
+        return requestedKeyFrames.add(streamId);
+    }
+
+    public synchronized void clear() {
+        keyFrames.clear();
+        requestedKeyFrames.clear();
+    }
+
+    private static class KeyFrame {
+
+        private final int id;
+        private final byte[] data;
+
+        private KeyFrame(int id, byte[] data) {
+            this.id = id;
+            this.data = data;
+        }
+    }
+}
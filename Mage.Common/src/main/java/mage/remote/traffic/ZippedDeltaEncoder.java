@@ -0,0 +1,94 @@
+package mage.remote.traffic;
+
+import mage.utils.CompressUtil;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Network: server side encoder for same data sent many times (e.g. game views for one user)
+ * <p>
+ * Sends full data (key frame) from time to time and changes from the last key frame between it,
+ * so client can restore any delta frame without previous deltas (outdated updates can be ignored
+ * by client without problems). Key frame will be sent on:
+ * - first usage or new channel (e.g. user reconnected with new session);
+ * - too many delta frames in a row (resync);
+ * - too big delta (e.g. after many game changes);
+ * - client's request (e.g. key frame was lost or came after the delta).
+ * <p>
+ * Client must decode it by {@link ZippedDeltaDecoder}
+ */
+public class ZippedDeltaEncoder {
+
+    private static final int MAX_DELTAS_PER_KEY_FRAME = 10; // resync on lost messages
+    private static final double MAX_DELTA_SIZE_RATIO = 0.5; // compared to full data size
+
+    private String channelId = null;
+    private UUID streamId = null;
+    private int keyFrameId = 0;
+    private byte[] keyFrame = null; // serialized data of the last key frame
+    private int deltasCount = 0;
+
+    /**
+     * @param data      data to send
+     * @param channelId connection's id, e.g. session id (new channel will start with key frame)
+     */
+    public Object encode(Object data, String channelId) {
+        return encode(data, null, channelId, TrafficCodecs.getDefault());
+    }
+
+    /**
+     * @param data      data to send
+     * @param rawData   already serialized data (e.g. same data for many users), can be null
+     * @param channelId connection's id, e.g. session id (new channel will start with key frame)
+     * @param codec     connection's codec
+     */
+    public synchronized Object encode(Object data, byte[] rawData, String channelId, TrafficCodec codec) {
+        if (data == null || !CompressUtil.isCompressEnabled()) {
+            return CompressUtil.compress(data, codec);
+        }
+
+        if (streamId == null || !Objects.equals(this.channelId, channelId)) {
+            reset();
+            this.channelId = channelId;
+        }
+
+        if (rawData == null) {
+            rawData = serialize(data);
+        }
+        if (keyFrame != null && deltasCount < MAX_DELTAS_PER_KEY_FRAME) {
+            byte[] delta = ByteDelta.create(keyFrame, rawData);
+            if (delta.length < rawData.length * MAX_DELTA_SIZE_RATIO) {
+                deltasCount++;
+                return new ZippedDeltaObject<>(streamId, keyFrameId, true, delta, codec);
+            }
+        }
+
+        keyFrame = rawData;
+        keyFrameId++;
+        deltasCount = 0;
+        return new ZippedDeltaObject<>(streamId, keyFrameId, false, rawData, codec);
+    }
+
+    public static byte[] serialize(Object data) {
+        return TrafficCodecs.serialize(data);
+    }
+
+    /**
+     * Client can't restore delta frame, so next data will be sent as key frame
+     */
+    public synchronized void requestKeyFrame() {
+        this.keyFrame = null;
+    }
+
+    /**
+     * Start new stream (next data will be sent as key frame)
+     */
+    public synchronized void reset() {
+        this.channelId = null;
+        this.streamId = UUID.randomUUID();
+        this.keyFrameId = 0;
+        this.keyFrame = null;
+        this.deltasCount = 0;
+    }
+}
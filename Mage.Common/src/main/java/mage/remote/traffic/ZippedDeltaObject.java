@@ -0,0 +1,75 @@
+package mage.remote.traffic;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Network: compressed object from the data stream with deltas (see {@link ZippedDeltaEncoder})
+ * <p>
+ * Key frame contains full object's data and can be used as is. Delta frame contains
+ * changes from the key frame only, so it must be restored by {@link ZippedDeltaDecoder}.
+ */
+public class ZippedDeltaObject<T> implements ZippedObject<T>, Serializable {
+
+    private final UUID streamId;
+    private final int keyFrameId;
+    private final boolean delta;
+    private final byte codecId;
+    private byte[] data;
+
+    /**
+     * Key frame
+     */
+    public ZippedDeltaObject(T object) {
+        this.streamId = UUID.randomUUID();
+        this.keyFrameId = 0;
+        this.delta = false;
+        this.codecId = TrafficCodecs.getDefault().getId();
+        zip(object);
+    }
+
+    ZippedDeltaObject(UUID streamId, int keyFrameId, boolean delta, byte[] rawData, TrafficCodec codec) {
+        this.streamId = streamId;
+        this.keyFrameId = keyFrameId;
+        this.delta = delta;
+        this.codecId = codec.getId();
+        this.data = codec.compress(rawData);
+    }
+
+    public UUID getStreamId() {
+        return streamId;
+    }
+
+    public int getKeyFrameId() {
+        return keyFrameId;
+    }
+
+    public boolean isDelta() {
+        return delta;
+    }
+
+    @Override
+    public void zip(T object) {
+        if (this.delta) {
+            throw new IllegalStateException("Wrong code usage: delta frame can't be created from object");
+        }
+        this.data = TrafficCodecs.getById(codecId).compress(TrafficCodecs.serialize(object));
+    }
+
+    @Override
+    public T unzip() {
+        if (this.delta) {
+            throw new IllegalStateException("Wrong code usage: delta frame must be restored by delta decoder");
+        }
+        return TrafficCodecs.deserialize(getRawData());
+    }
+
+    /**
+     * Uncompressed data (serialized object for key frame or delta for delta frame)
+     */
+    byte[] getRawData() {
+        return TrafficCodecs.getById(codecId).decompress(data);
+    }
+
+    private static final long serialVersionUID = 1L;
+}
@@ -1,49 +1,38 @@
 package mage.remote.traffic;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
- * Implementation for compressing and decompressing objects using {@link GZIPInputStream} and {@link GZIPOutputStream}.
+ * Implementation for compressing and decompressing objects by {@link TrafficCodec} (gzip by default).
  * Can be used to send any {@link Object} over internet to reduce traffic usage.
  *
  * @author ayrat
  */
 public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
 
+    private final byte codecId;
     private byte[] data;
 
     public ZippedObjectImpl(T object) {
+        this(object, TrafficCodecs.getDefault());
+    }
+
+    public ZippedObjectImpl(T object, TrafficCodec codec) {
+        this.codecId = codec.getId();
         zip(object);
     }
 
     public void zip(T object) {
         try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            GZIPOutputStream gz = new GZIPOutputStream(bos);
-            ObjectOutputStream oos = new ObjectOutputStream(gz);
-            oos.writeObject(object);
-            oos.close();
-            data = bos.toByteArray();
-        } catch (IOException e) {
+            data = TrafficCodecs.getById(codecId).compress(TrafficCodecs.serialize(object));
+        } catch (IllegalStateException e) {
             e.printStackTrace();
         }
     }
 
-    @SuppressWarnings("unchecked")
     public T unzip() {
         try {
-            ByteArrayInputStream bis = new ByteArrayInputStream(data);
-            GZIPInputStream gz = new GZIPInputStream(bis);
-            ObjectInputStream ois = new ObjectInputStream(gz);
-            Object o = ois.readObject();
-            return (T)o;
+            return TrafficCodecs.deserialize(TrafficCodecs.getById(codecId).decompress(data));
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -1,5 +1,7 @@
 package mage.utils;
 
+import mage.remote.traffic.TrafficCodec;
+import mage.remote.traffic.TrafficCodecs;
 import mage.remote.traffic.ZippedObject;
 import mage.remote.traffic.ZippedObjectImpl;
 
@@ -18,6 +20,10 @@ public final class CompressUtil {
         compressData = System.getProperty(NO_COMPRESS_DATA_PROPERTY) == null;
     }
 
+    public static boolean isCompressEnabled() {
+        return compressData;
+    }
+
     public static Object decompress(Object data) {
         if (!(data instanceof ZippedObject)) {
             return data;
@@ -26,8 +32,12 @@ public final class CompressUtil {
     }
 
     public static Object compress(Object data) {
+        return compress(data, TrafficCodecs.getDefault());
+    }
+
+    public static Object compress(Object data, TrafficCodec codec) {
         if (data != null && compressData) {
-            return new ZippedObjectImpl<>(data);
+            return new ZippedObjectImpl<>(data, codec);
         }
         return data;
     }
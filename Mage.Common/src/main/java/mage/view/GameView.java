@@ -218,6 +218,39 @@ public class GameView implements Serializable {
         this.gameCycle = game.getState().getApplyEffectsCounter();
     }
 
+    /**
+     * Shallow copy: inner views are shared with the original view,
+     * so it can be used to add personal data only (e.g. watched hands for watchers)
+     */
+    public GameView(final GameView view) {
+        this.priorityTime = view.priorityTime;
+        this.bufferTime = view.bufferTime;
+        this.players.addAll(view.players);
+        this.myPlayerId = view.myPlayerId;
+        this.myHand.putAll(view.myHand);
+        this.myHelperEmblems.putAll(view.myHelperEmblems);
+        this.canPlayObjects = view.canPlayObjects;
+        this.opponentHands.putAll(view.opponentHands);
+        this.watchedHands.putAll(view.watchedHands);
+        this.stack.putAll(view.stack);
+        this.exiles.addAll(view.exiles);
+        this.revealed.addAll(view.revealed);
+        this.lookedAt.addAll(view.lookedAt);
+        this.companion.addAll(view.companion);
+        this.combat.addAll(view.combat);
+        this.phase = view.phase;
+        this.step = view.step;
+        this.activePlayerId = view.activePlayerId;
+        this.activePlayerName = view.activePlayerName;
+        this.priorityPlayerName = view.priorityPlayerName;
+        this.turn = view.turn;
+        this.special = view.special;
+        this.rollbackTurnsAllowed = view.rollbackTurnsAllowed;
+        this.totalErrorsCount = view.totalErrorsCount;
+        this.totalEffectsCount = view.totalEffectsCount;
+        this.gameCycle = view.gameCycle;
+    }
+
     private void checkPaid(UUID uuid, StackAbility stackAbility) {
         for (Cost cost : stackAbility.getManaCostsToPay()) {
             if (!cost.isPaid()) {
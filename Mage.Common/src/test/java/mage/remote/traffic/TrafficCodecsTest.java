@@ -0,0 +1,81 @@
+package mage.remote.traffic;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TrafficCodecsTest {
+
+    @Test
+    void testCompressAndDecompress() {
+        Random random = new Random(42);
+        byte[] randomData = new byte[100000];
+        random.nextBytes(randomData);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("card ").append(i % 100).append(';');
+        }
+        byte[] textData = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        for (TrafficCodec codec : new TrafficCodec[]{TrafficCodecs.GZIP, TrafficCodecs.DEFLATE}) {
+            assertThat(TrafficCodecs.getById(codec.getId())).isSameAs(codec);
+            assertThat(codec.decompress(codec.compress(new byte[0]))).isEmpty();
+            assertThat(codec.decompress(codec.compress(randomData))).isEqualTo(randomData);
+            byte[] compressed = codec.compress(textData);
+            assertThat(compressed.length).isLessThan(textData.length / 10);
+            assertThat(codec.decompress(compressed)).isEqualTo(textData);
+            // reused deflaters must not keep old data
+            assertThat(codec.decompress(codec.compress(textData))).isEqualTo(textData);
+        }
+    }
+
+    @Test
+    void testDeflateWrongRawDataSize() {
+        byte[] compressed = TrafficCodecs.DEFLATE.compress(new byte[1000]);
+
+        // negative, too big and impossible for compressed size
+        for (int rawSize : new int[]{-1, Integer.MAX_VALUE, compressed.length * 2000}) {
+            byte[] broken = compressed.clone();
+            broken[0] = (byte) (rawSize >>> 24);
+            broken[1] = (byte) (rawSize >>> 16);
+            broken[2] = (byte) (rawSize >>> 8);
+            broken[3] = (byte) rawSize;
+            assertThatThrownBy(() -> TrafficCodecs.DEFLATE.decompress(broken))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("wrong raw data size");
+        }
+    }
+
+    @Test
+    void testZippedObjects() {
+        ArrayList<UUID> data = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            data.add(UUID.randomUUID());
+        }
+        assertThat(new ZippedObjectImpl<>(data).unzip()).isEqualTo(data);
+        assertThat(new ZippedObjectImpl<>(data, TrafficCodecs.DEFLATE).unzip()).isEqualTo(data);
+
+        // codec's id keeps in data, so decoder doesn't need any settings
+        ZippedDeltaEncoder encoder = new ZippedDeltaEncoder();
+        ZippedDeltaDecoder decoder = new ZippedDeltaDecoder();
+        assertThat(decoder.decode((ZippedDeltaObject<?>) encoder.encode(data, null, "session1", TrafficCodecs.DEFLATE))).isEqualTo(data);
+        data.add(UUID.randomUUID());
+        assertThat(decoder.decode((ZippedDeltaObject<?>) encoder.encode(data, null, "session1", TrafficCodecs.GZIP))).isEqualTo(data);
+    }
+
+    @Test
+    void testNegotiate() {
+        assertThat(TrafficCodecs.negotiate(null)).isSameAs(TrafficCodecs.getDefault());
+        assertThat(TrafficCodecs.negotiate("")).isSameAs(TrafficCodecs.getDefault());
+        assertThat(TrafficCodecs.negotiate("unknown")).isSameAs(TrafficCodecs.getDefault());
+        assertThat(TrafficCodecs.negotiate("unknown, deflate,gzip")).isSameAs(TrafficCodecs.DEFLATE);
+        assertThat(TrafficCodecs.negotiate("GZIP,deflate")).isSameAs(TrafficCodecs.GZIP);
+        assertThat(TrafficCodecs.negotiate(TrafficCodecs.getPreferredCodecs())).isSameAs(TrafficCodecs.DEFLATE);
+    }
+}
@@ -0,0 +1,116 @@
+package mage.remote.traffic;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ZippedDeltaTest {
+
+    @Test
+    void testByteDelta() {
+        Random random = new Random(42);
+        byte[] base = new byte[10000];
+        random.nextBytes(base);
+
+        // same data
+        assertThat(ByteDelta.apply(base, ByteDelta.create(base, base))).isEqualTo(base);
+
+        // changed data: insert, remove and replace some parts
+        byte[] target = new byte[base.length + 50];
+        System.arraycopy(base, 0, target, 0, 3000);
+        for (int i = 3000; i < 3100; i++) {
+            target[i] = (byte) i;
+        }
+        System.arraycopy(base, 3050, target, 3100, base.length - 3050);
+        byte[] delta = ByteDelta.create(base, target);
+        assertThat(ByteDelta.apply(base, delta)).isEqualTo(target);
+        assertThat(delta.length).isLessThan(target.length / 10);
+
+        // small and empty data
+        assertThat(ByteDelta.apply(base, ByteDelta.create(base, new byte[0]))).isEmpty();
+        assertThat(ByteDelta.apply(new byte[0], ByteDelta.create(new byte[0], base))).isEqualTo(base);
+        assertThat(ByteDelta.apply(new byte[]{1, 2}, ByteDelta.create(new byte[]{1, 2}, new byte[]{2, 1}))).containsExactly(2, 1);
+    }
+
+    @Test
+    void testEncodeAndDecode() {
+        ZippedDeltaEncoder encoder = new ZippedDeltaEncoder();
+        ZippedDeltaDecoder decoder = new ZippedDeltaDecoder();
+
+        ArrayList<String> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data.add("card " + i);
+        }
+
+        // first data must be full
+        ZippedDeltaObject<?> keyFrame = (ZippedDeltaObject<?>) encoder.encode(data, "session1");
+        assertThat(keyFrame.isDelta()).isFalse();
+        assertThat(keyFrame.unzip()).isEqualTo(data);
+        assertThat(decoder.decode(keyFrame)).isEqualTo(data);
+
+        // next data must be delta
+        data.set(50, "changed card");
+        ZippedDeltaObject<?> delta = (ZippedDeltaObject<?>) encoder.encode(data, "session1");
+        assertThat(delta.isDelta()).isTrue();
+        assertThat(decoder.decode(delta)).isEqualTo(data);
+
+        // delta must be restored from key frame only (prev delta can be lost)
+        data.set(51, "changed card 2");
+        assertThat(decoder.decode((ZippedDeltaObject<?>) encoder.encode(data, "session1"))).isEqualTo(data);
+
+        // client without key frame can't restore it
+        ZippedDeltaDecoder newDecoder = new ZippedDeltaDecoder();
+        assertThat(newDecoder.decode((ZippedDeltaObject<?>) encoder.encode(data, "session1"))).isNull();
+
+        // new session must start from key frame
+        ZippedDeltaObject<?> newKeyFrame = (ZippedDeltaObject<?>) encoder.encode(data, "session2");
+        assertThat(newKeyFrame.isDelta()).isFalse();
+        assertThat(newDecoder.decode(newKeyFrame)).isEqualTo(data);
+    }
+
+    @Test
+    void testOutOfOrderDelta() {
+        ZippedDeltaEncoder encoder = new ZippedDeltaEncoder();
+        ZippedDeltaDecoder decoder = new ZippedDeltaDecoder();
+
+        ArrayList<String> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data.add("card " + i);
+        }
+        assertThat(decoder.decode((ZippedDeltaObject<?>) encoder.encode(data, "session1"))).isEqualTo(data);
+
+        // new key frame comes after its delta
+        encoder.requestKeyFrame();
+        data.set(10, "changed card");
+        ZippedDeltaObject<?> keyFrame = (ZippedDeltaObject<?>) encoder.encode(data, "session1");
+        assertThat(keyFrame.isDelta()).isFalse();
+        data.set(20, "changed card 2");
+        ZippedDeltaObject<?> delta = (ZippedDeltaObject<?>) encoder.encode(data, "session1");
+        assertThat(delta.isDelta()).isTrue();
+        assertThat(delta.getKeyFrameId()).isEqualTo(keyFrame.getKeyFrameId());
+
+        // delta from unknown key frame can't be restored and client must request key frame one time only
+        ClientCallback callback = new ClientCallback(ClientCallbackMethod.GAME_UPDATE, null, delta, false);
+        assertThat(callback.decompressData(decoder)).isFalse();
+        assertThat(callback.isKeyFrameRequired()).isTrue();
+        callback = new ClientCallback(ClientCallbackMethod.GAME_UPDATE, null, delta, false);
+        assertThat(callback.decompressData(decoder)).isFalse();
+        assertThat(callback.isKeyFrameRequired()).isFalse();
+
+        // server sends key frame on request
+        encoder.requestKeyFrame();
+        ZippedDeltaObject<?> requestedKeyFrame = (ZippedDeltaObject<?>) encoder.encode(data, "session1");
+        assertThat(requestedKeyFrame.isDelta()).isFalse();
+        assertThat(decoder.decode(requestedKeyFrame)).isEqualTo(data);
+
+        // outdated key frame must not replace new key frame
+        assertThat(decoder.decode(keyFrame)).isNotEqualTo(data);
+        data.set(30, "changed card 3");
+        assertThat(decoder.decode((ZippedDeltaObject<?>) encoder.encode(data, "session1"))).isEqualTo(data);
+    }
+}
@@ -11,8 +11,10 @@ import mage.utils.MageVersion;
 import org.apache.log4j.Logger;
 
 import javax.swing.*;
+import java.awt.Dimension;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -126,12 +128,14 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
         btnConnect.setEnabled(true);
         btnConnect.setText("Disconnect & Close");
         btnSendMessage.setEnabled(true);
+        btnAiStats.setEnabled(true);
     }
 
     public void disableButtons() {
         btnConnect.setEnabled(true);
         btnConnect.setText("Connect");
         btnSendMessage.setEnabled(false);
+        btnAiStats.setEnabled(false);
     }
 
     /**
@@ -147,6 +151,7 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
         jToolBar1 = new javax.swing.JToolBar();
         btnConnect = new javax.swing.JButton();
         btnSendMessage = new javax.swing.JButton();
+        btnAiStats = new javax.swing.JButton();
         lblStatus = new javax.swing.JLabel();
         consolePanel1 = new mage.server.console.ConsolePanel();
 
@@ -171,6 +176,14 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
         btnSendMessage.addActionListener(evt -> btnSendMessageActionPerformed(evt));
         jToolBar1.add(btnSendMessage);
 
+        btnAiStats.setEnabled(false);
+        btnAiStats.setFocusable(false);
+        btnAiStats.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
+        btnAiStats.setText("AI Stats");
+        btnAiStats.setVerticalTextPosition(javax.swing.SwingConstants.BOTTOM);
+        btnAiStats.addActionListener(evt -> btnAiStatsActionPerformed(evt));
+        jToolBar1.add(btnAiStats);
+
         lblStatus.setText("Not Connected");
         jToolBar1.add(Box.createHorizontalGlue());
         jToolBar1.add(lblStatus);
@@ -212,6 +225,18 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
         }
     }//GEN-LAST:event_btnSendMessageActionPerformed
 
+    private void btnAiStatsActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnAiStatsActionPerformed
+        List<String> stats = session.getAiStats();
+        if (stats == null) {
+            return;
+        }
+        JTextArea text = new JTextArea(String.join("\n", stats));
+        text.setEditable(false);
+        JScrollPane scroll = new JScrollPane(text);
+        scroll.setPreferredSize(new Dimension(900, 400));
+        JOptionPane.showMessageDialog(this, scroll, "AI stats", JOptionPane.INFORMATION_MESSAGE);
+    }//GEN-LAST:event_btnAiStatsActionPerformed
+
     /**
      * @param args the command line arguments
      */
@@ -231,6 +256,7 @@ public class ConsoleFrame extends javax.swing.JFrame implements MageClient {
     }
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JButton btnAiStats;
     private javax.swing.JButton btnConnect;
     private javax.swing.JButton btnSendMessage;
     private mage.server.console.ConsolePanel consolePanel1;
@@ -1,6 +1,7 @@
 package mage.player.ai;
 
 import mage.MageObject;
+import mage.Mana;
 import mage.abilities.Ability;
 import mage.abilities.ActivatedAbility;
 import mage.abilities.SpellAbility;
@@ -13,6 +14,7 @@ import mage.cards.Cards;
 import mage.choices.Choice;
 import mage.constants.Outcome;
 import mage.constants.RangeOfInfluence;
+import mage.counters.Counter;
 import mage.counters.CounterType;
 import mage.filter.StaticFilters;
 import mage.game.Game;
@@ -31,7 +33,10 @@ import mage.target.Target;
 import mage.target.TargetAmount;
 import mage.target.TargetCard;
 import mage.util.CardUtil;
+import mage.util.IdSource;
+import mage.util.IdUtil;
 import mage.util.RandomUtil;
+import mage.util.StateHashUtil;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
@@ -54,6 +59,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
     private static final int MAX_SIMULATED_NODES_PER_CALC = 5000;
     private static final int MAX_SIMULATED_NODES_PER_ERROR = 5100; // TODO: debug only, set low value to find big calculations
 
+    // iterative deepening: search starts from small depth and increases it until maxDepth, so AI
+    // always has best actions from last finished search on timeout
+    private static final int ITERATIVE_DEEPENING_START_DEPTH = 2;
+
     // same params as Executors.newFixedThreadPool
     // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
     private static final ExecutorService threadPoolSimulations = new ThreadPoolExecutor(
@@ -67,6 +76,9 @@ public class ComputerPlayer6 extends ComputerPlayer {
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThinkTimeSecs;
+    protected volatile int searchDepth; // max depth of the current iterative deepening search
+    protected TranspositionTable transpositionTable = new TranspositionTable(); // cleared on each decision
+    protected boolean iterativeDeepening = true; // false - search with maxDepth only
     protected LinkedList<Ability> actions = new LinkedList<>();
     protected List<UUID> targets = new ArrayList<>();
     protected List<String> choices = new ArrayList<>();
@@ -112,6 +124,15 @@ public class ComputerPlayer6 extends ComputerPlayer {
         this.targets.addAll(player.targets);
         this.choices.addAll(player.choices);
         this.actionCache = player.actionCache;
+        this.transpositionTable = player.transpositionTable;
+        this.iterativeDeepening = player.iterativeDeepening;
+    }
+
+    /**
+     * Disable iterative deepening - used for AI tests only (must find same actions as search with max depth)
+     */
+    public void setIterativeDeepening(boolean iterativeDeepening) {
+        this.iterativeDeepening = iterativeDeepening;
     }
 
     /**
@@ -213,19 +234,20 @@ public class ComputerPlayer6 extends ComputerPlayer {
             logger.trace("Add Action [" + depth + "] " + node.getAbilities().toString() + "  a: " + alpha + " b: " + beta);
         }
         Game game = node.getGame();
+        node.getContext().updateDepth(searchDepth - depth);
         if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS && Thread.currentThread().isInterrupted()) {
             logger.debug("AI game sim interrupted by timeout");
-            return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+            return evaluateScore(node, game);
         }
         // Condition to stop deeper simulation
-        if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+        if (getSearchNodes(node) > MAX_SIMULATED_NODES_PER_ERROR) {
             // how-to fix: make sure you are disabled debug mode by COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS = false
             throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
         }
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || getSearchNodes(node) > maxNodes
                 || game.checkIfGameIsOver()) {
-            val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+            val = evaluateScore(node, game);
             if (logger.isTraceEnabled()) {
                 StringBuilder sb = new StringBuilder("Add Actions -- reached end state  <").append(val).append('>');
                 SimulationNode2 logNode = node;
@@ -259,20 +281,20 @@ public class ComputerPlayer6 extends ComputerPlayer {
             }
 
             if (game.checkIfGameIsOver()) {
-                val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+                val = evaluateScore(node, game);
             } else if (stepFinished) {
                 logger.debug("Step finished");
-                int testScore = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+                int testScore = evaluateScore(node, game);
                 if (game.isActivePlayer(playerId)) {
                     if (testScore < currentScore) {
                         // if score at end of step is worse than original score don't check further
                         //logger.debug("Add Action -- abandoning check, no immediate benefit");
                         val = testScore;
                     } else {
-                        val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+                        val = evaluateScore(node, game);
                     }
                 } else {
-                    val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+                    val = evaluateScore(node, game);
                 }
             } else if (!node.getChildren().isEmpty()) {
                 if (logger.isDebugEnabled()) {
@@ -307,10 +329,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            logger.trace("Sim getNextAction -- game value:" + game.getState().getHash(true) + " test value:" + test.gameValue);
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && game.getState().getHash(true) == test.gameValue) {
                 logger.info("simulating -- continuing previous actions chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -318,7 +340,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             } else {
                 if (root.abilities == null || root.abilities.isEmpty()) {
                     logger.info("simulating -- need re-calculation (no more actions)");
-                } else if (game.getState().getValue(true).hashCode() != test.gameValue) {
+                } else if (game.getState().getHash(true) != test.gameValue) {
                     logger.info("simulating -- need re-calculation (game state changed between actions)");
                 } else if (!root.playerId.equals(playerId)) {
                     // TODO: need research, why need playerId and why it taken from stack objects as controller
@@ -341,10 +363,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+            if (getSearchNodes(node) > MAX_SIMULATED_NODES_PER_ERROR) {
                 throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (getSearchNodes(node) > maxNodes) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -411,7 +433,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 Target target = effect.getTarget();
                 if (!target.isChoiceCompleted(getId(), (StackAbility) stackObject, game, null)) {
                     for (UUID targetId : target.possibleTargets(stackObject.getControllerId(), stackObject.getStackAbility(), game)) {
-                        Game sim = game.createSimulationForAI();
+                        Game sim = node.getContext().copyGame(game);
                         StackAbility newAbility = (StackAbility) stackObject.copy();
                         SearchEffect newEffect = getSearchEffect(newAbility);
                         newEffect.getTarget().addTarget(targetId, newAbility, sim);
@@ -419,12 +441,13 @@ public class ComputerPlayer6 extends ComputerPlayer {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + node.getContext().getNodes() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
             }
         }
+        long rulesStart = System.nanoTime();
         stackObject.resolve(game);
         if (stackObject instanceof StackAbility) {
             game.getStack().remove(stackObject, game);
@@ -432,6 +455,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
         game.applyEffects();
         game.getPlayers().resetPassed();
         game.getPlayerList().setCurrent(game.getActivePlayerId());
+        node.getContext().addRulesTime(rulesStart);
     }
 
     /**
@@ -443,8 +467,18 @@ public class ComputerPlayer6 extends ComputerPlayer {
         // TODO: all actions added and calculated one by one,
         //  multithreading do not supported here
         // run new game simulation in parallel thread
-        FutureTask<Integer> task = new FutureTask<>(() -> addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        IterativeSearch search = new IterativeSearch(root);
+        IdSource idSource = root.getGame().getIdSource();
+        FutureTask<Integer> task = new FutureTask<>(() -> {
+            IdSource prevIdSource = IdUtil.bindSource(idSource);
+            try {
+                return addActionsIterative(search);
+            } finally {
+                IdUtil.restoreSource(prevIdSource);
+            }
+        });
         threadPoolSimulations.execute(task);
+        boolean timeout = false;
         try {
             int maxSeconds = maxThinkTimeSecs;
             if (COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS) {
@@ -452,21 +486,34 @@ public class ComputerPlayer6 extends ComputerPlayer {
             }
             logger.debug("maxThink: " + maxSeconds + " seconds ");
             Integer res = task.get(maxSeconds, TimeUnit.SECONDS);
+            if (search.finishedRoot != null) {
+                root = search.finishedRoot;
+            }
             if (res != null) {
                 return res;
             }
         } catch (TimeoutException | InterruptedException e) {
             // AI thinks too long
             // how-to fix: look at stack info - it can contain bad ability with infinite choose dialog
+            timeout = true;
+            SimulationNode2 freezeRoot = search.currentRoot;
             logger.warn("");
             logger.warn("AI player thinks too long (report it to github):");
             logger.warn(" - player: " + getName());
-            logger.warn(" - battlefield size: " + root.game.getBattlefield().getAllPermanents().size());
-            logger.warn(" - stack: " + root.game.getStack());
-            logger.warn(" - game: " + root.game);
-            printFreezeNode(root);
+            logger.warn(" - search depth: " + freezeRoot.getDepth());
+            logger.warn(" - battlefield size: " + freezeRoot.game.getBattlefield().getAllPermanents().size());
+            logger.warn(" - stack: " + freezeRoot.game.getStack());
+            logger.warn(" - game: " + freezeRoot.game);
+            printFreezeNode(freezeRoot);
             logger.warn("");
             task.cancel(true);
+            if (search.finishedRoot != null) {
+                // use best actions from the last finished search
+                root = search.finishedRoot;
+                logger.warn("AI player uses best actions from finished search with depth " + root.getDepth());
+                return search.finishedScore;
+            }
+            root = freezeRoot;
         } catch (ExecutionException e) {
             // game error
             logger.error("AI player catch game error in simulation - " + getName() + " - " + root.game + ": " + e, e);
@@ -480,11 +527,64 @@ public class ComputerPlayer6 extends ComputerPlayer {
             // ?
             logger.error("AI simulation catch unknown error: " + e, e);
             task.cancel(true);
+        } finally {
+            search.startRoot.getContext().finish(timeout);
         }
         //TODO: timeout handling
         return 0;
     }
 
+    /**
+     * Iterative deepening search: each iteration starts from a new copy of the root game and goes deeper,
+     * transposition table keeps best actions from the prev iterations to check it first
+     *
+     * @return score of the best actions chain
+     */
+    private int addActionsIterative(IterativeSearch search) {
+        int res = 0;
+        AiSearchContext context = search.startRoot.getContext();
+        // scores from prev decisions can be wrong for current game (e.g. after hidden info changes), so use it inside one decision only
+        transpositionTable.clear();
+        int startDepth = iterativeDeepening ? Math.min(ITERATIVE_DEEPENING_START_DEPTH, maxDepth) : maxDepth;
+        for (int depth = startDepth; depth <= maxDepth; depth++) {
+            context.startSearch();
+            searchDepth = depth;
+            SimulationNode2 iterationRoot;
+            if (depth == maxDepth) {
+                iterationRoot = search.startRoot;
+            } else {
+                iterationRoot = new SimulationNode2(context, context.copyGame(search.startRoot.getGame()), depth, playerId);
+            }
+            search.currentRoot = iterationRoot;
+            res = addActions(iterationRoot, depth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS && Thread.currentThread().isInterrupted()) {
+                // unfinished search, keep prev results
+                break;
+            }
+            search.finishedScore = res;
+            search.finishedRoot = iterationRoot;
+            if (getSearchNodes(iterationRoot) > maxNodes) {
+                // deeper search can't be finished too
+                logger.debug("Sim iterative deepening -- stopped on depth " + depth + " due max nodes limit");
+                break;
+            }
+        }
+        return res;
+    }
+
+    private static class IterativeSearch {
+
+        private final SimulationNode2 startRoot; // must be used by last iteration only (game will be changed by search)
+        private volatile SimulationNode2 currentRoot;
+        private volatile SimulationNode2 finishedRoot;
+        private volatile int finishedScore;
+
+        private IterativeSearch(SimulationNode2 startRoot) {
+            this.startRoot = startRoot;
+            this.currentRoot = startRoot;
+        }
+    }
+
     private void printFreezeNode(SimulationNode2 root) {
         // print simple tree - there are possible multiple child nodes, but ignore it - same for abilities
         List<String> chain = new ArrayList<>();
@@ -512,17 +612,33 @@ public class ComputerPlayer6 extends ComputerPlayer {
     protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
         if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS && Thread.currentThread().isInterrupted()) {
             logger.debug("AI game sim interrupted by timeout");
-            return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+            return evaluateScore(node, game);
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getHash(true));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
+        long transpositionHash = getTranspositionHash(node.getGameValue(), game, currentPlayer.getId());
+        TranspositionTable.Entry transposition = transpositionTable.get(transpositionHash);
+        if (transposition != null
+                && transposition.isExactScore()
+                && transposition.getDepth() >= depth
+                && depth < searchDepth) {
+            // same game state was already calculated by another actions order
+            logger.debug("Sim Prio [" + depth + "] -- transposition found <" + transposition.getScore() + ">");
+            return transposition.getScore();
+        }
+        int startedAlpha = alpha;
+        int startedBeta = beta;
+        boolean allActionsChecked = true;
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
         optimize(game, allActions);
-        int startedScore = GameStateEvaluator2.evaluate(this.getId(), node.getGame()).getTotalScore();
+        if (transposition != null) {
+            moveBestActionToFirst(allActions, transposition.getBestAction());
+        }
+        int startedScore = evaluateScore(node, node.getGame());
         if (logger.isInfoEnabled()
                 && !allActions.isEmpty()
-                && depth == maxDepth) {
+                && depth == searchDepth) {
             logger.info(String.format("POSSIBLE ACTION CHAINS for %s (%d, started score: %d)%s",
                     getName(),
                     allActions.size(),
@@ -541,16 +657,20 @@ public class ComputerPlayer6 extends ComputerPlayer {
             actionNumber++;
             if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS && Thread.currentThread().isInterrupted()) {
                 logger.info("Sim Prio [" + depth + "] -- interrupted");
+                allActionsChecked = false;
                 break;
             }
-            Game sim = game.createSimulationForAI();
+            Game sim = node.getContext().copyGame(game);
+            long rulesStart = System.nanoTime();
             if (!(action instanceof StaticAbility) //for MorphAbility, etc
                     && sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
                 sim.applyEffects();
+                node.getContext().addRulesTime(rulesStart);
                 if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
                     logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
                     continue;
                 }
+                rulesStart = System.nanoTime();
                 if (!sim.checkIfGameIsOver()
                         && (action.isUsesStack() || action instanceof PassAbility)) {
                     // skip priority for opponents before stack resolve
@@ -562,15 +682,16 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 }
                 SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
                 sim.checkStateAndTriggered();
+                node.getContext().addRulesTime(rulesStart);
                 int finalScore;
                 if (action instanceof PassAbility && sim.getStack().isEmpty()) {
                     // no more next actions, it's a final score
-                    finalScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
+                    finalScore = evaluateScore(node, sim);
                 } else {
                     // resolve current action and calc all next actions to find best score (return max possible score)
                     finalScore = addActions(newNode, depth - 1, alpha, beta);
                 }
-                logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (maxDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + finalScore + "> - (" + action + ") ");
+                logger.debug("Sim Prio " + BLANKS.substring(0, 2 + (searchDepth - depth) * 3) + '[' + depth + "]#" + actionNumber + " <" + finalScore + "> - (" + action + ") ");
 
                 // Hints on data:
                 // * node - started game with executed command (pay and put on stack)
@@ -578,7 +699,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 // * node.children - rewrites to store only best tree (e.g. contains only final data)
                 // * node.score - rewrites to store max score (e.g. contains only final data)
                 if (logger.isInfoEnabled()
-                        && depth >= maxDepth) {
+                        && depth >= searchDepth) {
                     // show final calculated score and best actions chain from it
                     List<SimulationNode2> fullChain = new ArrayList<>();
                     fullChain.add(newNode);
@@ -672,12 +793,12 @@ public class ComputerPlayer6 extends ComputerPlayer {
                     if (finalScore > bestValSubNodes) {
                         bestValSubNodes = finalScore;
                     }
-                    if (depth == maxDepth
+                    if (depth == searchDepth
                             && action instanceof PassAbility) {
                         finalScore = finalScore - PASSIVITY_PENALTY; // passivity penalty
                     }
                     if (finalScore > alpha
-                            || (depth == maxDepth
+                            || (depth == searchDepth
                             && finalScore == alpha
                             && RandomUtil.nextBoolean())) { // Adding random for equal value to get change sometimes
                         alpha = finalScore;
@@ -689,7 +810,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                         }
 
                         // keep only best node
-                        if (depth == maxDepth) {
+                        if (depth == searchDepth) {
                             logger.info("Sim Prio [" + depth + "] -* BEST actions chain so far: <final score " + bestNode.getScore() + ">");
                             node.children.clear();
                             node.children.add(bestNode);
@@ -700,6 +821,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                     // no need to check other actions
                     if (finalScore == GameStateEvaluator2.WIN_GAME_SCORE) {
                         logger.debug("Sim Prio -- win - break");
+                        allActionsChecked = false;
                         break;
                     }
                 } else {
@@ -715,25 +837,28 @@ public class ComputerPlayer6 extends ComputerPlayer {
                     // no need to check other actions
                     if (finalScore == GameStateEvaluator2.LOSE_GAME_SCORE) {
                         logger.debug("Sim Prio -- lose - break");
+                        allActionsChecked = false;
                         break;
                     }
                 }
                 if (alpha >= beta) {
+                    allActionsChecked = false;
                     break;
                 }
-                if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+                if (getSearchNodes(node) > MAX_SIMULATED_NODES_PER_ERROR) {
                     throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (getSearchNodes(node) > maxNodes) {
                     logger.debug("Sim Prio -- reached end-state");
+                    allActionsChecked = false;
                     break;
                 }
             }
         } // end of for (allActions)
 
-        if (depth == maxDepth) {
+        if (depth == searchDepth) {
             // TODO: buggy? Why it ended with depth limit 6 on one Pass action?!
-            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + searchDepth + ") -- Nodes calculated: " + getSearchNodes(node));
         }
         if (bestNode != null) {
             node.children.clear();
@@ -745,10 +870,67 @@ public class ComputerPlayer6 extends ComputerPlayer {
             }
         }
 
-        if (currentPlayer.getId().equals(playerId)) {
-            return bestValSubNodes;
-        } else {
-            return beta;
+        int res = currentPlayer.getId().equals(playerId) ? bestValSubNodes : beta;
+        if (COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS || !Thread.currentThread().isInterrupted()) {
+            // score is exact only for fully checked actions inside alpha-beta bounds, other scores can be used for actions order only
+            boolean exactScore = allActionsChecked && res > startedAlpha && res < startedBeta;
+            String bestAction = bestNode == null ? null : bestNode.getAbilities().get(0).toString();
+            if (exactScore || bestAction != null) {
+                transpositionTable.put(transpositionHash, depth, res, exactScore, bestAction);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Key for transposition table: game state hash doesn't contain some players data (it's same as state value),
+     * but it's important for possible actions, so add it here
+     */
+    protected static long getTranspositionHash(long stateHash, Game game, UUID priorityPlayerId) {
+        long hash = StateHashUtil.add(stateHash, priorityPlayerId);
+        for (Player player : game.getPlayers().values()) {
+            Mana pool = player.getManaPool().getMana();
+            hash = StateHashUtil.add(hash, pool.getWhite());
+            hash = StateHashUtil.add(hash, pool.getBlue());
+            hash = StateHashUtil.add(hash, pool.getBlack());
+            hash = StateHashUtil.add(hash, pool.getRed());
+            hash = StateHashUtil.add(hash, pool.getGreen());
+            hash = StateHashUtil.add(hash, pool.getColorless());
+            hash = StateHashUtil.add(hash, pool.getGeneric());
+            hash = StateHashUtil.add(hash, pool.getAny());
+            hash = StateHashUtil.add(hash, player.getLandsPlayed());
+            long countersHash = 0;
+            for (Counter counter : player.getCountersAsCopy().values()) {
+                countersHash = StateHashUtil.addUnordered(countersHash, StateHashUtil.add(StateHashUtil.add(0, counter.getName()), counter.getCount()));
+            }
+            hash = StateHashUtil.add(hash, countersHash);
+        }
+        return hash;
+    }
+
+    /**
+     * Nodes amount of the current iterative deepening search
+     */
+    private int getSearchNodes(SimulationNode2 node) {
+        return node.getContext().getSearchNodes();
+    }
+
+    private int evaluateScore(SimulationNode2 node, Game game) {
+        long start = System.nanoTime();
+        int score = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+        node.getContext().addEvaluationTime(start);
+        return score;
+    }
+
+    private void moveBestActionToFirst(List<Ability> allActions, String bestAction) {
+        if (bestAction == null) {
+            return;
+        }
+        for (int i = 1; i < allActions.size(); i++) {
+            if (allActions.get(i).toString().equals(bestAction)) {
+                allActions.add(0, allActions.remove(i));
+                return;
+            }
         }
     }
 
@@ -1245,6 +1427,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
     @Override
     public void cleanUpOnMatchEnd() {
         root = null;
+        transpositionTable.clear();
         super.cleanUpOnMatchEnd();
     }
 
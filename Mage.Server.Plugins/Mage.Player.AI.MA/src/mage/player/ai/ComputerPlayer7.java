@@ -113,9 +113,11 @@ public class ComputerPlayer7 extends ComputerPlayer6 {
     protected void calculateActions(Game game) {
         if (!getNextAction(game)) {
             currentScore = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
+            AiSearchContext context = new AiSearchContext("mad", getName());
+            long copyStart = System.nanoTime();
             Game sim = createSimulation(game);
-            SimulationNode2.resetCount();
-            root = new SimulationNode2(null, sim, maxDepth, playerId);
+            context.addCopyTime(copyStart);
+            root = new SimulationNode2(context, sim, maxDepth, playerId);
             addActionsTimed(); // TODO: root can be null again after addActionsTimed O_o need to research (it's a CPU AI problem?)
             if (root != null && root.children != null && !root.children.isEmpty()) {
                 logger.trace("After add actions timed: root.children.size = " + root.children.size());
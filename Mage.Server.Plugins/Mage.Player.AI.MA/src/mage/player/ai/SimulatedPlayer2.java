@@ -75,7 +75,7 @@ public final class SimulatedPlayer2 extends ComputerPlayer {
      */
     public List<Ability> simulatePriority(Game game) {
         allActions = new ConcurrentLinkedQueue<>();
-        Game sim = game.createSimulationForAI();
+        Game sim = copyGame(game);
         simulateOptions(sim);
 
         // possible actions
@@ -105,6 +105,14 @@ public final class SimulatedPlayer2 extends ComputerPlayer {
         return list;
     }
 
+    private Game copyGame(Game game) {
+        // AI's simulated games contain search node, so it can count copies for decision stats
+        if (game.getCustomData() instanceof SimulationNode2) {
+            return ((SimulationNode2) game.getCustomData()).getContext().copyGame(game);
+        }
+        return game.createSimulationForAI();
+    }
+
     private void simulateOptions(Game game) {
         List<ActivatedAbility> playables = game.getPlayer(playerId).getPlayable(game, isSimulatedPlayer);
         for (ActivatedAbility ability : playables) {
@@ -343,14 +351,14 @@ public final class SimulatedPlayer2 extends ComputerPlayer {
     }
 
     protected void addAbilityNode(SimulationNode2 parent, Ability ability, int depth, Game game) {
-        Game sim = game.createSimulationForAI();
+        Game sim = parent.getContext().copyGame(game);
         sim.getStack().push(sim, new StackAbility(ability, playerId));
         if (ability.activate(sim, false) && ability.isUsesStack()) {
             sim.fireEvent(new GameEvent(GameEvent.EventType.TRIGGERED_ABILITY, ability.getId(), ability, ability.getControllerId()));
         }
         sim.applyEffects();
         SimulationNode2 newNode = new SimulationNode2(parent, sim, depth, playerId);
-        logger.debug("simulating -- node #:" + SimulationNode2.getCount() + " triggered ability option");
+        logger.debug("simulating -- node #:" + parent.getContext().getNodes() + " triggered ability option");
         for (Target target : ability.getTargets()) {
             for (UUID targetId : target.getTargets()) {
                 newNode.getTargets().add(targetId); // save for info only (real targets in newNode.game.stack already)
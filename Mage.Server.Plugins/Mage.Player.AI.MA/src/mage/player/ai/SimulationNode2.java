@@ -15,10 +15,10 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
+    protected final AiSearchContext context; // shared by all nodes of the decision
 
     protected Game game;
-    protected int gameValue; // game state hash to monitor changes
+    protected long gameValue; // game state hash to monitor changes
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -29,13 +29,25 @@ public class SimulationNode2 implements Serializable {
     protected UUID playerId;
     protected Combat combat;
 
+    /**
+     * Root node of the decision
+     */
+    public SimulationNode2(AiSearchContext context, Game game, int depth, UUID playerId) {
+        this(context, null, game, depth, playerId);
+    }
+
     public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
+        this(parent.context, parent, game, depth, playerId);
+    }
+
+    private SimulationNode2(AiSearchContext context, SimulationNode2 parent, Game game, int depth, UUID playerId) {
+        this.context = context;
         this.parent = parent;
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
         game.setCustomData(this);
-        nodeCount++;
+        context.addNode();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -49,23 +61,19 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
-    }
-
-    public static int getCount() {
-        return nodeCount;
+    public AiSearchContext getContext() {
+        return context;
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
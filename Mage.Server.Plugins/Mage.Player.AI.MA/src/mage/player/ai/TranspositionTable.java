@@ -0,0 +1,99 @@
+package mage.player.ai;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * AI: bounded cache of already calculated game states for minimax search (same states can be reached
+ * by different actions order)
+ * <p>
+ * Each state goes to a fixed slot by its hash, so memory usage is constant and old results are
+ * replaced by new or more deep results. Lock free, so it can be used from multiple simulation threads.
+ */
+public class TranspositionTable {
+
+    public static final int DEFAULT_SIZE = 1 << 16;
+
+    public static final class Entry {
+
+        private final long hash;
+        private final int depth; // remaining search depth for the score
+        private final int score;
+        private final boolean exactScore; // false - score was cut by alpha-beta, can be used for actions order only
+        private final String bestAction;
+
+        private Entry(long hash, int depth, int score, boolean exactScore, String bestAction) {
+            this.hash = hash;
+            this.depth = depth;
+            this.score = score;
+            this.exactScore = exactScore;
+            this.bestAction = bestAction;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public boolean isExactScore() {
+            return exactScore;
+        }
+
+        public String getBestAction() {
+            return bestAction;
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    public TranspositionTable() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @param size max amount of states, must be power of two
+     */
+    public TranspositionTable(int size) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Wrong transposition table size, must be power of two: " + size);
+        }
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public Entry get(long hash) {
+        Entry entry = entries.get(getIndex(hash));
+        if (entry != null && entry.hash == hash) {
+            return entry;
+        }
+        return null;
+    }
+
+    public void put(long hash, int depth, int score, boolean exactScore, String bestAction) {
+        int index = getIndex(hash);
+        Entry newEntry = new Entry(hash, depth, score, exactScore, bestAction);
+        Entry oldEntry;
+        do {
+            oldEntry = entries.get(index);
+            // keep more useful result for same state
+            if (oldEntry != null
+                    && oldEntry.hash == hash
+                    && (oldEntry.depth > depth || (oldEntry.depth == depth && oldEntry.exactScore && !exactScore))) {
+                return;
+            }
+        } while (!entries.compareAndSet(index, oldEntry, newEntry));
+    }
+
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    private int getIndex(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
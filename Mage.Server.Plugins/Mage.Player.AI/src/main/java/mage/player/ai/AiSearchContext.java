@@ -0,0 +1,121 @@
+package mage.player.ai;
+
+import mage.game.Game;
+import mage.players.AiSearchStats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI: counters of one AI decision (search nodes, game copies and time), each decision uses own context,
+ * so AI players from different games don't change budgets of each other
+ * <p>
+ * Thread safe, simulation threads of the decision can share it. Stats goes to AiSearchStats on finish.
+ */
+public class AiSearchContext {
+
+    private final String aiType;
+    private final String playerName;
+    private final long startTime = System.nanoTime();
+
+    private final AtomicInteger nodes = new AtomicInteger();
+    private volatile int searchStartNodes; // nodes amount before the current search (e.g. iterative deepening step)
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final AtomicInteger gameCopies = new AtomicInteger();
+    private final AtomicLong copyNanos = new AtomicLong();
+    private final AtomicLong evaluationNanos = new AtomicLong();
+    private final AtomicLong rulesNanos = new AtomicLong();
+
+    public AiSearchContext(String aiType, String playerName) {
+        this.aiType = aiType;
+        this.playerName = playerName;
+    }
+
+    /**
+     * @return nodes amount with new node
+     */
+    public int addNode() {
+        return nodes.incrementAndGet();
+    }
+
+    public void addNodes(int amount) {
+        nodes.addAndGet(amount);
+    }
+
+    public int getNodes() {
+        return nodes.get();
+    }
+
+    /**
+     * Start new search inside the decision (e.g. next iterative deepening step), so nodes limit will be checked for it only
+     */
+    public void startSearch() {
+        searchStartNodes = nodes.get();
+    }
+
+    /**
+     * @return nodes amount of the current search
+     */
+    public int getSearchNodes() {
+        return nodes.get() - searchStartNodes;
+    }
+
+    public void updateDepth(int depth) {
+        maxDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * Game copy for simulations with copy stats
+     */
+    public Game copyGame(Game game) {
+        long start = System.nanoTime();
+        Game sim = game.createSimulationForAI();
+        addCopyTime(start);
+        return sim;
+    }
+
+    /**
+     * @param start System.nanoTime before game copy
+     */
+    public void addCopyTime(long start) {
+        gameCopies.incrementAndGet();
+        copyNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    /**
+     * @param start System.nanoTime before score evaluation
+     */
+    public void addEvaluationTime(long start) {
+        evaluationNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    /**
+     * @param start System.nanoTime before rules processing (activate, resolve, state based actions, triggers)
+     */
+    public void addRulesTime(long start) {
+        rulesNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    public int getGameCopies() {
+        return gameCopies.get();
+    }
+
+    public void finish(boolean timeout) {
+        AiSearchStats.addDecision(new AiSearchStats.Decision(
+                aiType,
+                playerName,
+                nodes.get(),
+                maxDepth.get(),
+                gameCopies.get(),
+                copyNanos.get(),
+                evaluationNanos.get(),
+                rulesNanos.get(),
+                System.nanoTime() - startTime,
+                timeout
+        ));
+    }
+}
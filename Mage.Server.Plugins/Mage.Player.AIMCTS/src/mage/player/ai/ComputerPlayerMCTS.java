@@ -12,6 +12,7 @@ import mage.game.combat.Combat;
 import mage.game.combat.CombatGroup;
 import mage.player.ai.MCTSPlayer.NextAction;
 import mage.players.Player;
+import mage.util.IdSource;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
@@ -20,21 +21,29 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author BetaSteward_at_googlemail.com
  */
 public class ComputerPlayerMCTS extends ComputerPlayer {
 
+    private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
+
     private static final int THINK_MIN_RATIO = 40;
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
 
+    // all threads search in the same tree, can be changed by -Dxmage.ai.mcts.threads=xxx
+    private static final int DEFAULT_THREADS = getPositiveProperty("xmage.ai.mcts.threads", Runtime.getRuntime().availableProcessors());
+    // max simulations per decision (0 - use think time only), can be changed by -Dxmage.ai.mcts.simulations=xxx
+    private static final int DEFAULT_MAX_SIMULATIONS = getPositiveProperty("xmage.ai.mcts.simulations", 0);
+
     protected transient MCTSNode root;
     protected int maxThinkTime;
-    private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
     private int poolSize;
+    private int maxSimulations;
 
     private ExecutorService threadPoolSimulations = null;
 
@@ -42,15 +51,53 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
         super(name, range);
         human = false;
         maxThinkTime = (int) (skill * THINK_TIME_MULTIPLIER);
-        poolSize = Runtime.getRuntime().availableProcessors();
+        poolSize = Math.max(1, DEFAULT_THREADS);
+        maxSimulations = DEFAULT_MAX_SIMULATIONS;
     }
 
     protected ComputerPlayerMCTS(UUID id) {
         super(id);
+        poolSize = Math.max(1, DEFAULT_THREADS);
+        maxSimulations = DEFAULT_MAX_SIMULATIONS;
     }
 
     public ComputerPlayerMCTS(final ComputerPlayerMCTS player) {
         super(player);
+        this.poolSize = player.poolSize;
+        this.maxSimulations = player.maxSimulations;
+    }
+
+    /**
+     * Change amount of simulation threads - must be called before first decision
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = Math.max(1, poolSize);
+    }
+
+    /**
+     * Change max simulations per decision, 0 - use think time only
+     */
+    public void setMaxSimulations(int maxSimulations) {
+        this.maxSimulations = Math.max(0, maxSimulations);
+    }
+
+    /**
+     * @return positive number from system property or default value for missing/wrong value
+     */
+    static int getPositiveProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int res = Integer.parseInt(value.trim());
+            if (res > 0) {
+                return res;
+            }
+        } catch (NumberFormatException ignore) {
+        }
+        logger.warn("Wrong value of system property " + name + ": " + value + ", must be positive number, default value will be used: " + defaultValue);
+        return defaultValue;
     }
 
     @Override
@@ -104,7 +151,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
+            newRoot = root.getMatchingState(game.getState().getHash(game, playerId));
             if (newRoot != null) {
                 newRoot.emancipate();
             } else
@@ -163,7 +210,12 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
         int thinkTime = calculateThinkTime(game, action);
 
         if (thinkTime > 0) {
-            if (USE_MULTIPLE_THREADS) {
+            long endTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(thinkTime);
+            AtomicInteger simCount = new AtomicInteger();
+            AiSearchContext context = new AiSearchContext("mcts", name);
+            IdSource idSource = new IdSource(); // simulations must not change ids of the real game
+            boolean timeout = false;
+            if (USE_MULTIPLE_THREADS && poolSize > 1) {
                 if (this.threadPoolSimulations == null) {
                     // same params as Executors.newFixedThreadPool
                     // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
@@ -177,13 +229,10 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                     );
                 }
 
+                // all tasks search in the same tree
                 List<MCTSExecutor> tasks = new ArrayList<>();
                 for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
-                    tasks.add(exec);
+                    tasks.add(new MCTSExecutor(root, playerId, endTime, maxSimulations, simCount, context, idSource));
                 }
 
                 try {
@@ -193,6 +242,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                     }
                 } catch (InterruptedException | CancellationException e) {
                     logger.warn("applyMCTS timeout");
+                    timeout = true;
                 } catch (ExecutionException e) {
                     // real games: must catch and log
                     // unit tests: must raise again for fast fail
@@ -200,52 +250,15 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                         throw new IllegalStateException("One of the simulated games raise the error: " + e, e);
                     }
                 }
-
-                int simCount = 0;
-                for (MCTSExecutor task : tasks) {
-                    simCount += task.getSimCount();
-                    root.merge(task.getRoot());
-                    task.clear();
-                }
-                tasks.clear();
-                totalThinkTime += thinkTime;
-                totalSimulations += simCount;
-                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds - nodes in tree: " + root.size());
-                logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime);
-                MCTSNode.logHitMiss();
             } else {
-                long startTime = System.nanoTime();
-                long endTime = startTime + (thinkTime * 1000000000l);
-                MCTSNode current;
-                int simCount = 0;
-                while (true) {
-                    long currentTime = System.nanoTime();
-                    if (currentTime > endTime)
-                        break;
-                    current = root;
-
-                    // Selection
-                    while (!current.isLeaf()) {
-                        current = current.select(this.playerId);
-                    }
-
-                    int result;
-                    if (!current.isTerminal()) {
-                        // Expansion
-                        current.expand();
-
-                        // Simulation
-                        current = current.select(this.playerId);
-                        result = current.simulate(this.playerId);
-                        simCount++;
-                    } else {
-                        result = current.isWinner(this.playerId) ? 1 : -1;
-                    }
-                    // Backpropagation
-                    current.backpropagate(result);
-                }
-                logger.info("Simulated " + simCount + " games - nodes in tree: " + root.size());
+                new MCTSExecutor(root, playerId, endTime, maxSimulations, simCount, context, idSource).call();
             }
+            context.finish(timeout);
+            totalThinkTime += thinkTime;
+            totalSimulations += simCount.get();
+            logger.info("Player: " + name + " Simulated " + simCount.get() + " games in " + thinkTime + " seconds with " + poolSize + " threads - nodes in tree: " + root.size());
+            logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime);
+            MCTSNode.logHitMiss();
 //            displayMemory();
         }
 
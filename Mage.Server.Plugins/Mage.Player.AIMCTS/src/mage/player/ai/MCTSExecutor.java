@@ -1,78 +1,93 @@
-
 package mage.player.ai;
 
+import mage.util.IdSource;
+import mage.util.IdUtil;
+
 import java.util.UUID;
 import java.util.concurrent.Callable;
-import mage.game.Game;
-import org.apache.log4j.Logger;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * AI: MCTS worker, all workers search in the same tree until think time or simulations limit ends
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class MCTSExecutor implements Callable<Boolean> {
 
-    protected transient MCTSNode root;
-    protected int thinkTime;
-    protected UUID playerId;
-    protected int simCount;
+    protected final MCTSNode root;
+    protected final UUID playerId;
+    protected final long endTime; // System.nanoTime
+    protected final int maxSimulations; // 0 - no limit
+    protected final AtomicInteger simCount; // shared by all workers
+    protected final AiSearchContext context; // shared by all workers
+    protected final IdSource idSource; // ids source of the simulations
 
-    private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
-
-    public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+    public MCTSExecutor(MCTSNode root, UUID playerId, long endTime, int maxSimulations, AtomicInteger simCount, AiSearchContext context, IdSource idSource) {
+        this.root = root;
         this.playerId = playerId;
-        this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.endTime = endTime;
+        this.maxSimulations = maxSimulations;
+        this.simCount = simCount;
+        this.context = context;
+        this.idSource = idSource;
     }
 
     @Override
     public Boolean call() {
-        simCount = 0;
-        MCTSNode current;
+        IdSource prevIdSource = IdUtil.bindSource(idSource);
+        try {
+            search();
+        } finally {
+            IdUtil.restoreSource(prevIdSource);
+        }
+        return true;
+    }
 
+    private void search() {
+        MCTSNode current;
 
-        while (true) {
+        while (System.nanoTime() < endTime
+                && !Thread.currentThread().isInterrupted()
+                && (maxSimulations <= 0 || simCount.get() < maxSimulations)) {
             current = root;
+            current.addVirtualLoss();
 
             // Selection
+            int depth = 0;
             while (!current.isLeaf()) {
                 current = current.select(this.playerId);
+                current.addVirtualLoss();
+                depth++;
             }
+            context.updateDepth(depth);
 
             int result;
             if (!current.isTerminal()) {
                 // Expansion
-                current.expand();
-
-                // only run simulations for nodes that have siblings
-                if (current.getNumChildren() > 1) {
-                    // Simulation
+                if (current.expand(context) && current.getNumChildren() > 0) {
+                    context.addNodes(current.getNumChildren());
+                    boolean hasSiblings = current.getNumChildren() > 1;
                     current = current.select(this.playerId);
-                    result = current.simulate(this.playerId);
-                    simCount++;
+                    current.addVirtualLoss();
+                    if (hasSiblings) {
+                        // only run simulations for nodes that have siblings
+                        // Simulation
+                        result = current.simulate(this.playerId, context);
+                    } else {
+                        result = 0;
+                    }
+                } else {
+                    // node without actions or expanded by another worker (it returns 0 then)
+                    result = current.simulate(this.playerId, context);
                 }
-                else {
-                    current = current.select(this.playerId);
-                    result = 0;
+                if (result != 0) {
+                    simCount.incrementAndGet();
                 }
-            }
-            else {
-                result = current.isWinner(this.playerId)?1:-1;
+            } else {
+                result = current.isWinner(this.playerId) ? 1 : -1;
             }
             // Backpropagation
             current.backpropagate(result);
         }
     }
-
-    public MCTSNode getRoot() {
-        return root;
-    }
-
-    public void clear() {
-        root = null;
-    }
-
-    public int getSimCount() {
-        return simCount;
-    }
 }
@@ -3,11 +3,13 @@ package mage.player.ai;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -22,6 +24,10 @@ import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
 /**
+ * AI: MCTS tree node, tree is shared by all simulation threads
+ * <p>
+ * Visits are added on selection (virtual loss), so other threads select other nodes until
+ * simulation result comes back. Wins are added on backpropagation.
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -32,55 +38,68 @@ public class MCTSNode {
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
 
-    private int visits = 0;
-    private int wins = 0;
-    private MCTSNode parent;
-    private final List<MCTSNode> children = new ArrayList<>();
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicInteger wins = new AtomicInteger();
+    private volatile MCTSNode parent;
+    private final List<MCTSNode> children = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean expanded = new AtomicBoolean();
     private Ability action;
-    private Game game;
+    private volatile Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final long stateValue;
+    private final long fullStateValue;
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
 
-    private static int nodeCount;
+    private static final AtomicInteger nodeCount = new AtomicInteger();
 
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = game.getState().getHash(true, game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
-        nodeCount = 1;
+        nodeCount.set(1);
 //        logger.info(this.stateValue);
     }    
 
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = game.getState().getHash(true, game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
         setPlayer();
-        nodeCount++;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
+    /**
+     * For tests only: node without game
+     */
+    protected MCTSNode(MCTSNode parent, UUID playerId) {
+        this.targetPlayer = parent == null ? playerId : parent.targetPlayer;
+        this.stateValue = 0;
+        this.fullStateValue = 0;
+        this.parent = parent;
+        this.playerId = playerId;
+        nodeCount.incrementAndGet();
+    }
+
     protected MCTSNode(MCTSNode parent, Game game, Combat combat) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getHash(game, targetPlayer);
+        this.fullStateValue = game.getState().getHash(true, game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
-        nodeCount++;
+        nodeCount.incrementAndGet();
 //        logger.info(this.stateValue);
     }
 
@@ -103,13 +122,16 @@ public class MCTSNode {
         if (children.size() == 1) {
             return children.get(0);
         }
+        int parentVisits = visits.get();
         for (MCTSNode node: children) {
             double uct;
-            if (node.visits > 0)
+            int nodeVisits = node.visits.get();
+            int nodeWins = node.wins.get();
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (nodeWins / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((nodeVisits - nodeWins) / (nodeVisits)) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / (nodeVisits)));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * RandomUtil.nextDouble();
@@ -121,19 +143,52 @@ public class MCTSNode {
         return bestChild;
     }
 
-    public void expand() {
+    /**
+     * @return false if node was already expanded by another thread
+     */
+    public boolean expand(AiSearchContext context) {
+        if (!expanded.compareAndSet(false, true)) {
+            return false;
+        }
+        synchronized (this) {
+            children.addAll(createChildren(context));
+            if (!children.isEmpty()) {
+                // node without actions keeps game for simulations
+                game = null;
+            }
+        }
+        return true;
+    }
+
+    protected List<MCTSNode> createChildren(AiSearchContext context) {
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
         }
-        children.addAll(MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game, fullStateValue));
-        game = null;
+        return MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game, fullStateValue, context);
+    }
+
+    public boolean isExpanded() {
+        return expanded.get();
     }
 
-    public int simulate(UUID playerId) {
+    /**
+     * @return 1 for win, -1 for loss, 0 if node was expanded by another thread (no more game to simulate)
+     */
+    public int simulate(UUID playerId, AiSearchContext context) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            if (game == null) {
+                return 0;
+            }
+            long copyStart = System.nanoTime();
+            sim = createSimulation(game, playerId);
+            context.addCopyTime(copyStart);
+        }
+        long rulesStart = System.nanoTime();
         sim.resume();
+        context.addRulesTime(rulesStart);
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
         for (Player simPlayer: sim.getPlayers().values()) {
@@ -146,14 +201,26 @@ public class MCTSNode {
         return retVal;
     }
 
+    /**
+     * Virtual loss: count visit before simulation result
+     */
+    public void addVirtualLoss() {
+        visits.incrementAndGet();
+    }
+
+    /**
+     * Visits must be added by addVirtualLoss on selection, result 0 reverts it
+     */
     public void backpropagate(int result) {
-        if (result == 0)
-            return;
-        if (result == 1)
-            wins++;
-        visits++;
-        if (parent != null)
-            parent.backpropagate(result);
+        MCTSNode node = this;
+        while (node != null) {
+            if (result == 1) {
+                node.wins.incrementAndGet();
+            } else if (result == 0) {
+                node.visits.decrementAndGet();
+            }
+            node = node.parent;
+        }
     }
 
     public boolean isLeaf() {
@@ -168,25 +235,27 @@ public class MCTSNode {
         boolean bestIsPass = false;
         MCTSNode bestChild = null;
         for (MCTSNode node: children) {
+            int nodeVisits = node.visits.get();
+            int nodeWins = node.wins.get();
             //favour passing vs any other action except for playing land if ratio is close
-            if (node.visits > bestCount) {
+            if (nodeVisits > bestCount) {
                 if (bestIsPass) {
-                    double ratio = node.wins/(node.visits * 1.0);
+                    double ratio = nodeWins/(nodeVisits * 1.0);
                     if (ratio < bestRatio + passRatioTolerance)
                         continue;
                 }
                 bestChild = node;
-                bestCount = node.visits;
-                bestRatio = node.wins/(node.visits * 1.0);
+                bestCount = nodeVisits;
+                bestRatio = nodeWins/(nodeVisits * 1.0);
                 bestIsPass = false;
             }
-            else if (node.action instanceof PassAbility && node.visits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
+            else if (node.action instanceof PassAbility && nodeVisits > 10 && !(bestChild.action instanceof PlayLandAbility)) {
                 //favour passing vs any other action if ratio is close
-                double ratio = node.wins/(node.visits * 1.0);
+                double ratio = nodeWins/(nodeVisits * 1.0);
                 if (ratio > bestRatio - passRatioTolerance) {
                     logger.info("choosing pass over " + bestChild.getAction());
                     bestChild = node;
-                    bestCount = node.visits;
+                    bestCount = nodeVisits;
                     bestRatio = ratio;
                     bestIsPass = true;
                 }
@@ -219,21 +288,26 @@ public class MCTSNode {
     }
 
     public int getNodeCount() {
-        return nodeCount;
+        return nodeCount.get();
     }
 
-    public String getStateValue() {
+    public long getStateValue() {
         return stateValue;
     }
 
     public double getWinRatio() {
-        if (visits > 0)
-            return wins/(visits * 1.0);
+        int nodeVisits = visits.get();
+        if (nodeVisits > 0)
+            return wins.get()/(nodeVisits * 1.0);
         return -1.0;
     }
 
     public int getVisits() {
-        return visits;
+        return visits.get();
+    }
+
+    public int getWins() {
+        return wins.get();
     }
 
     /**
@@ -300,13 +374,13 @@ public class MCTSNode {
      * @param state - the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long state) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateValue == state)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -315,63 +389,6 @@ public class MCTSNode {
         return null;
     }
 
-    public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
-            logger.info("mismatched merge states at root");
-            return;
-        }
-
-        this.visits += merge.visits;
-        this.wins += merge.wins;
-        int mismatchCount = 0;
-        
-        List<MCTSNode> mergeChildren = new ArrayList<>();
-        for (MCTSNode child: merge.children) {
-            mergeChildren.add(child);
-        }
-
-        for (MCTSNode child: children) {
-            for (MCTSNode mergeChild: mergeChildren) {
-                if (mergeChild.action != null && child.action != null) {
-                    if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
-                            mismatchCount++;
-//                            logger.info("mismatched merge states");
-//                            mergeChildren.remove(mergeChild);
-                        }
-                        else {
-                            child.merge(mergeChild);
-                            mergeChildren.remove(mergeChild);
-                        }
-                        break;
-                    }
-                }
-                else {
-                    if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
-                            mismatchCount++;
-//                            logger.info("mismatched merge states");
-//                            mergeChildren.remove(mergeChild);
-                        }
-                        else {
-                            child.merge(mergeChild);
-                            mergeChildren.remove(mergeChild);
-                        }
-                        break;
-                    }
-                }
-            }
-        }
-        if (!mergeChildren.isEmpty()) {
-            for (MCTSNode child: mergeChildren) {
-                child.parent = this;
-                children.add(child);
-            }
-        }
-//        if (mismatchCount > 0)
-//            logger.info("mismatched merge states: " + mismatchCount);
-    }
-
 //    public void print(int depth) {
 //        String indent = String.format("%1$-" + depth + "s", "");
 //        StringBuilder sb = new StringBuilder();
@@ -393,9 +410,10 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
+    // turn number -> game state hash -> options
+    private static final ConcurrentHashMap<Integer, ConcurrentHashMap<Long, List<Ability>>> playablesCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, ConcurrentHashMap<Long, List<List<UUID>>>> attacksCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, ConcurrentHashMap<Long, List<List<List<UUID>>>>> blocksCache = new ConcurrentHashMap<>();
 
     private static long playablesHit = 0;
     private static long playablesMiss = 0;
@@ -404,78 +422,64 @@ public class MCTSNode {
     private static long blocksHit = 0;
     private static long blocksMiss = 0;
 
-    protected static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
-        if (playablesCache.containsKey(state)) {
+    protected static List<Ability> getPlayables(MCTSPlayer player, long state, Game game) {
+        Map<Long, List<Ability>> turnCache = playablesCache.computeIfAbsent(game.getTurnNum(), k -> new ConcurrentHashMap<>());
+        List<Ability> abilities = turnCache.get(state);
+        if (abilities != null) {
             playablesHit++;
-            return playablesCache.get(state);
+            return abilities;
         }
         else {
             playablesMiss++;
-            List<Ability> abilities = player.getPlayableOptions(game);
-            playablesCache.put(state, abilities);
+            abilities = player.getPlayableOptions(game);
+            turnCache.put(state, abilities);
             return abilities;
         }
     }
 
-    protected static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
-        if (attacksCache.containsKey(state)) {
+    protected static List<List<UUID>> getAttacks(MCTSPlayer player, long state, Game game) {
+        Map<Long, List<List<UUID>>> turnCache = attacksCache.computeIfAbsent(game.getTurnNum(), k -> new ConcurrentHashMap<>());
+        List<List<UUID>> attacks = turnCache.get(state);
+        if (attacks != null) {
             attacksHit++;
-            return attacksCache.get(state);
+            return attacks;
         }
         else {
             attacksMiss++;
-            List<List<UUID>> attacks = player.getAttacks(game);
-            attacksCache.put(state, attacks);
+            attacks = player.getAttacks(game);
+            turnCache.put(state, attacks);
             return attacks;
         }
     }
     
-    protected static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
-        if (blocksCache.containsKey(state)) {
+    protected static List<List<List<UUID>>> getBlocks(MCTSPlayer player, long state, Game game) {
+        Map<Long, List<List<List<UUID>>>> turnCache = blocksCache.computeIfAbsent(game.getTurnNum(), k -> new ConcurrentHashMap<>());
+        List<List<List<UUID>>> blocks = turnCache.get(state);
+        if (blocks != null) {
             blocksHit++;
-            return blocksCache.get(state);
+            return blocks;
         }
         else {
             blocksMiss++;
-            List<List<List<UUID>>> blocks = player.getBlocks(game);
-            blocksCache.put(state, blocks);
+            blocks = player.getBlocks(game);
+            turnCache.put(state, blocks);
             return blocks;
         }
     }
     
     public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
-        int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.parseInt(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
+        return cleanupCache(playablesCache, turnNum)
+                + cleanupCache(attacksCache, turnNum)
+                + cleanupCache(blocksCache, turnNum);
+    }
 
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(blocksIterator.next().split(":", 2)[0].substring(1));
+    private static int cleanupCache(Map<Integer, ? extends Map<Long, ?>> cache, int turnNum) {
+        int count = 0;
+        for (Integer cacheTurn : new ArrayList<>(cache.keySet())) {
             if (cacheTurn < turnNum) {
-                blocksIterator.remove();
-                count++;
+                count += cache.remove(cacheTurn).size();
             }
         }
-
         return count;
     }
     
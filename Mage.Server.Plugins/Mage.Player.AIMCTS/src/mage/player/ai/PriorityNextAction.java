@@ -10,7 +10,7 @@ import java.util.List;
 public class PriorityNextAction implements MCTSNodeNextAction{
 
     @Override
-    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue) {
+    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, long fullStateValue, AiSearchContext context) {
         List<MCTSNode> children = new ArrayList<>();
         List<Ability> abilities;
         if (!MCTSNode.USE_ACTION_CACHE)
@@ -18,10 +18,12 @@ public class PriorityNextAction implements MCTSNodeNextAction{
         else
             abilities = MCTSNode.getPlayables(player, fullStateValue, game);
         for (Ability ability: abilities) {
-            Game sim = game.createSimulationForAI();
+            Game sim = context.copyGame(game);
+            long rulesStart = System.nanoTime();
             MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
             simPlayer.activateAbility((ActivatedAbility)ability, sim);
             sim.resume();
+            context.addRulesTime(rulesStart);
             children.add(new MCTSNode(node, sim, ability));
         }
 
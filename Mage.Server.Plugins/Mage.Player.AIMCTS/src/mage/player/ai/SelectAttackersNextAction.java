@@ -10,7 +10,7 @@ import static mage.player.ai.MCTSNode.getAttacks;
 
 public class SelectAttackersNextAction implements MCTSNodeNextAction{
     @Override
-    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue) {
+    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, long fullStateValue, AiSearchContext context) {
         List<MCTSNode> children = new ArrayList<>();
         List<List<UUID>> attacks;
         if (!MCTSNode.USE_ACTION_CACHE)
@@ -19,12 +19,14 @@ public class SelectAttackersNextAction implements MCTSNodeNextAction{
             attacks = getAttacks(player, fullStateValue, game);
         UUID defenderId = game.getOpponents(player.getId(), true).iterator().next();
         for (List<UUID> attack: attacks) {
-            Game sim = game.createSimulationForAI();
+            Game sim = context.copyGame(game);
+            long rulesStart = System.nanoTime();
             MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
             for (UUID attackerId: attack) {
                 simPlayer.declareAttacker(attackerId, defenderId, sim, false);
             }
             sim.resume();
+            context.addRulesTime(rulesStart);
             children.add(new MCTSNode(node, sim, sim.getCombat()));
         }
 
@@ -11,7 +11,7 @@ import static mage.player.ai.MCTSNode.getBlocks;
 
 public class SelectBlockersNextAction implements MCTSNodeNextAction{
     @Override
-    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue) {
+    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, long fullStateValue, AiSearchContext context) {
         List<MCTSNode> children = new ArrayList<>();
         List<List<List<UUID>>> blocks;
         if (!MCTSNode.USE_ACTION_CACHE)
@@ -19,7 +19,8 @@ public class SelectBlockersNextAction implements MCTSNodeNextAction{
         else
             blocks = getBlocks(player, fullStateValue, game);
         for (List<List<UUID>> block : blocks) {
-            Game sim = game.createSimulationForAI();
+            Game sim = context.copyGame(game);
+            long rulesStart = System.nanoTime();
             MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
             List<CombatGroup> groups = sim.getCombat().getGroups();
             for (int i = 0; i < groups.size(); i++) {
@@ -30,6 +31,7 @@ public class SelectBlockersNextAction implements MCTSNodeNextAction{
                 }
             }
             sim.resume();
+            context.addRulesTime(rulesStart);
             children.add(new MCTSNode(node, sim, sim.getCombat()));
         }
 
@@ -6,6 +6,8 @@ import mage.util.Copyable;
 
 import java.io.Serializable;
 import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Network: server side data for waiting a user's response like new choice
@@ -14,7 +16,8 @@ import java.util.UUID;
  * - one response object per user;
  * - support multiple data types;
  * - waiting and writing response on diff threads;
- * - start by response.wait (game thread) and end by response.notifyAll (network/call thread)
+ * - start by response.await (game thread) and end by response.signalAll (network/call thread), both under response.lock;
+ * - it uses lock instead synchronized, so waiting game thread doesn't pin OS thread in virtual threads mode
  * - user's request can income in diff order, so only one latest response allowed (except async commands like concede and cheat)
  *
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -38,10 +41,35 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
     private Boolean asyncWantConcede;
     private Boolean asyncWantCheat;
 
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
     public PlayerResponse() {
         clear();
     }
 
+    public void lock() {
+        this.lock.lock();
+    }
+
+    public void unlock() {
+        this.lock.unlock();
+    }
+
+    /**
+     * Wait for a new response, must be called under lock
+     */
+    public void await() throws InterruptedException {
+        this.changed.await();
+    }
+
+    /**
+     * Notify waiting thread about a new response, must be called under lock
+     */
+    public void signalAll() {
+        this.changed.signalAll();
+    }
+
     @Override
     public String toString() {
         return ((this.responseString == null) ? "null" : this.responseString)
@@ -19,6 +19,7 @@ import mage.interfaces.MageServer;
 import mage.interfaces.ServerState;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
+import mage.players.AiSearchStats;
 import mage.players.PlayerType;
 import mage.players.net.UserData;
 import mage.remote.MageVersionException;
@@ -183,6 +184,11 @@ public class MageServerImpl implements MageServer {
         });
     }
 
+    @Override
+    public String connectSetTrafficCodec(String sessionId, String preferredCodecs) throws MageException {
+        return managerFactory.sessionManager().setTrafficCodec(sessionId, preferredCodecs);
+    }
+
     @Override
     public boolean connectAdmin(String adminPassword, String sessionId, MageVersion version) throws MageException {
         try {
@@ -1037,6 +1043,18 @@ public class MageServerImpl implements MageServer {
         return executeWithResult("adminGetUsers", sessionId, new GetUsersAction(), true);
     }
 
+    /**
+     * Get AI decisions stats for admin console (nodes, game copies and time of AI players search)
+     *
+     * @param sessionId
+     * @return
+     * @throws MageException
+     */
+    @Override
+    public List<String> adminGetAiStats(String sessionId) throws MageException {
+        return executeWithResult("adminGetAiStats", sessionId, new GetAiStatsAction(), true);
+    }
+
     @Override
     public void adminDisconnectUser(final String sessionId, final String userSessionId) throws MageException {
         execute("adminDisconnectUser", sessionId,
@@ -1218,6 +1236,14 @@ public class MageServerImpl implements MageServer {
         }
     }
 
+    private static class GetAiStatsAction extends ActionWithNullNegativeResult<List<String>> {
+
+        @Override
+        public List<String> execute() throws MageException {
+            return AiSearchStats.getInfo();
+        }
+    }
+
     private class GetGameViewAction extends ActionWithNullNegativeResult<GameView> {
 
         private final String sessionId;
@@ -6,6 +6,8 @@ import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.net.UserData;
 import mage.players.net.UserGroup;
+import mage.remote.traffic.TrafficCodec;
+import mage.remote.traffic.TrafficCodecs;
 import mage.server.game.GamesRoom;
 import mage.server.managers.ConfigSettings;
 import mage.server.managers.ManagerFactory;
@@ -74,6 +76,7 @@ public class Session {
     private final ReentrantLock lock;
     private final ReentrantLock callBackLock;
     private String lastCallbackInfo = "";
+    private volatile TrafficCodec trafficCodec = TrafficCodecs.getDefault(); // client can change it on connect
 
     public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
         this.managerFactory = managerFactory;
@@ -432,6 +435,8 @@ public class Session {
         boolean lockSet = false; // TODO: research about locks, why it here? 2023-12-06
 
         try {
+            // compress before lock, so other messages can be prepared in parallel
+            call.compressData(trafficCodec);
             if (valid && callBackLock.tryLock(50, TimeUnit.MILLISECONDS)) {
                 lastCallbackInfo = call.getInfo();
                 call.setMessageId(messageId.incrementAndGet());
@@ -486,6 +491,14 @@ public class Session {
         return host;
     }
 
+    public TrafficCodec getTrafficCodec() {
+        return trafficCodec;
+    }
+
+    public void setTrafficCodec(TrafficCodec trafficCodec) {
+        this.trafficCodec = trafficCodec;
+    }
+
     public Date getConnectionTime() {
         return timeConnected;
     }
@@ -2,6 +2,8 @@ package mage.server;
 
 import mage.MageException;
 import mage.players.net.UserData;
+import mage.remote.traffic.TrafficCodec;
+import mage.remote.traffic.TrafficCodecs;
 import mage.server.managers.ManagerFactory;
 import mage.server.managers.SessionManager;
 import mage.util.ThreadUtils;
@@ -193,6 +195,18 @@ public class SessionManagerImpl implements SessionManager {
         return Optional.empty();
     }
 
+    @Override
+    public String setTrafficCodec(String sessionId, String preferredCodecs) {
+        TrafficCodec codec = TrafficCodecs.negotiate(preferredCodecs);
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        session.setTrafficCodec(codec);
+        logger.debug("- traffic codec: " + codec.getName() + " for sessionId: " + sessionId);
+        return codec.getName();
+    }
+
     @Override
     public boolean extendUserSession(String sessionId, String pingInfo) {
         return getSession(sessionId)
@@ -10,6 +10,8 @@ import mage.game.tournament.TournamentPlayer;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.net.UserData;
+import mage.remote.traffic.TrafficCodec;
+import mage.remote.traffic.TrafficCodecs;
 import mage.server.draft.DraftSession;
 import mage.server.game.GameController;
 import mage.server.game.GameSessionPlayer;
@@ -123,6 +125,12 @@ public class User {
         return sessionId;
     }
 
+    public TrafficCodec getTrafficCodec() {
+        return managerFactory.sessionManager().getSession(sessionId)
+                .map(Session::getTrafficCodec)
+                .orElse(TrafficCodecs.getDefault());
+    }
+
     public String getRestoreSessionId() {
         return restoreSessionId;
     }
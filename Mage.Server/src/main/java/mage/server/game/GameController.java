@@ -39,6 +39,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPOutputStream;
@@ -63,9 +64,11 @@ public class GameController implements GameCallback {
 
     private final ConcurrentMap<UUID, GameSessionPlayer> gameSessions = new ConcurrentHashMap<>();
     private final ReadWriteLock gameSessionsLock = new ReentrantReadWriteLock();
+    private final ReentrantLock controllerLock = new ReentrantLock(); // lock instead synchronized, so network calls don't pin OS thread in virtual threads mode
 
     private final ConcurrentMap<UUID, GameSessionWatcher> watchers = new ConcurrentHashMap<>();
     private final ReadWriteLock gameWatchersLock = new ReentrantReadWriteLock();
+    private final WatchersGameView watchersGameView;
 
     private final ConcurrentMap<UUID, PriorityTimer> timers = new ConcurrentHashMap<>();
 
@@ -92,7 +95,9 @@ public class GameController implements GameCallback {
         this.chatId = managerFactory.chatManager().createGameChatSession(game);
         this.userRequestingRollback = null;
         this.game = game;
+        this.watchersGameView = new WatchersGameView(game);
         this.game.setSaveGame(managerFactory.configSettings().isSaveGameActivated());
+        this.game.getGameStates().setMaxStates(managerFactory.configSettings().getMaxSavedGameStates());
         this.tableId = tableId;
         this.choosingPlayerId = choosingPlayerId;
         this.gameOptions = gameOptions;
@@ -328,30 +333,35 @@ public class GameController implements GameCallback {
         checkJoinAndStart();
     }
 
-    private synchronized void startGame() {
-        if (gameFuture == null) {
-            // workaround to fill range info (cause real range fills after game start, but users must get start event with game data already)
-            for (Player player : game.getPlayers().values()) {
-                player.updateRange(game);
-            }
+    private void startGame() {
+        controllerLock.lock();
+        try {
+            if (gameFuture == null) {
+                // workaround to fill range info (cause real range fills after game start, but users must get start event with game data already)
+                for (Player player : game.getPlayers().values()) {
+                    player.updateRange(game);
+                }
 
-            // send first info to users
-            for (GameSessionPlayer gameSessionPlayer : getGameSessions()) {
-                gameSessionPlayer.init();
-            }
+                // send first info to users
+                for (GameSessionPlayer gameSessionPlayer : getGameSessions()) {
+                    gameSessionPlayer.init();
+                }
 
-            // real game start
-            GameWorker worker = new GameWorker(game, choosingPlayerId, this);
-            gameFuture = gameExecutor.submit(worker);
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException ignore) {
-            }
+                // real game start
+                GameWorker worker = new GameWorker(game, choosingPlayerId, this);
+                gameFuture = gameExecutor.submit(worker);
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ignore) {
+                }
 
-            if (game.getState().getChoosingPlayerId() != null) {
-                // start timer to force player to choose starting player otherwise loosing by being idle
-                startResponseIdleTimeout(game.getState().getChoosingPlayerId());
+                if (game.getState().getChoosingPlayerId() != null) {
+                    // start timer to force player to choose starting player otherwise loosing by being idle
+                    startResponseIdleTimeout(game.getState().getChoosingPlayerId());
+                }
             }
+        } finally {
+            controllerLock.unlock();
         }
     }
 
@@ -468,7 +478,7 @@ public class GameController implements GameCallback {
             return false;
         }
         managerFactory.userManager().getUser(userId).ifPresent(user -> {
-            GameSessionWatcher gameWatcher = new GameSessionWatcher(managerFactory.userManager(), userId, game, false);
+            GameSessionWatcher gameWatcher = new GameSessionWatcher(managerFactory.userManager(), userId, game, false, watchersGameView);
             final Lock w = gameWatchersLock.writeLock();
             w.lock();
             try {
@@ -586,6 +596,18 @@ public class GameController implements GameCallback {
                 }
             }
             break;
+            case CLIENT_REQUEST_FULL_GAME_UPDATE: {
+                // can be called by player or watcher
+                GameSessionWatcher gameWatcher = watchers.get(userId);
+                if (gameWatcher == null) {
+                    UUID playerId = getPlayerId(userId);
+                    gameWatcher = playerId == null ? null : gameSessions.get(playerId);
+                }
+                if (gameWatcher != null) {
+                    gameWatcher.resendGameUpdate();
+                }
+                break;
+            }
             case CONCEDE: {
                 UUID playerId = getPlayerId(userId);
                 if (playerId != null) {
@@ -769,6 +791,7 @@ public class GameController implements GameCallback {
             gameSession.gameOver(message);
             gameSession.removeGame();
         }
+        watchersGameView.reset();
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
             gameWatcher.gameOver(message);
         }
@@ -817,93 +840,162 @@ public class GameController implements GameCallback {
         }
     }
 
-    private synchronized void updateGame() {
-        updatePriorityTimers();
-        for (final GameSessionPlayer gameSession : getGameSessions()) {
-            gameSession.update();
-        }
-        for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+    private void updateGame() {
+        controllerLock.lock();
+        try {
+            updatePriorityTimers();
+            for (final GameSessionPlayer gameSession : getGameSessions()) {
+                gameSession.update();
+            }
+            watchersGameView.reset();
+            for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
+                gameWatcher.update();
+            }
+        } finally {
+            controllerLock.unlock();
         }
     }
 
-    private synchronized void endGameInfo() {
-        Table table = managerFactory.tableManager().getTable(tableId);
-        if (table != null) {
-            if (table.getMatch() != null) {
-                for (final GameSessionPlayer gameSession : getGameSessions()) {
-                    gameSession.endGameInfo(table);
+    private void endGameInfo() {
+        controllerLock.lock();
+        try {
+            Table table = managerFactory.tableManager().getTable(tableId);
+            if (table != null) {
+                if (table.getMatch() != null) {
+                    for (final GameSessionPlayer gameSession : getGameSessions()) {
+                        gameSession.endGameInfo(table);
+                    }
+                    // TODO: inform watchers about game end and who won
                 }
-                // TODO: inform watchers about game end and who won
             }
+        } finally {
+            controllerLock.unlock();
         }
     }
 
-    private synchronized void ask(UUID playerId, final String question, final Map<String, Serializable> options) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).ask(question, options));
-
+    private void ask(UUID playerId, final String question, final Map<String, Serializable> options) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).ask(question, options));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void chooseAbility(UUID playerId, final String objectName, final List<? extends Ability> choices, String message) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).chooseAbility(new AbilityPickerView(getGameView(playerId), objectName, choices, message)));
+    private void chooseAbility(UUID playerId, final String objectName, final List<? extends Ability> choices, String message) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).chooseAbility(new AbilityPickerView(getGameView(playerId), objectName, choices, message)));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void choosePile(UUID playerId, final String message, final List<? extends Card> pile1, final List<? extends Card> pile2) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).choosePile(message, new CardsView(game, pile1, playerId), new CardsView(game, pile2, playerId)));
+    private void choosePile(UUID playerId, final String message, final List<? extends Card> pile1, final List<? extends Card> pile2) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).choosePile(message, new CardsView(game, pile1, playerId), new CardsView(game, pile2, playerId)));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void chooseMode(UUID playerId, final Map<UUID, String> modes, final String message) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).chooseAbility(new AbilityPickerView(getGameView(playerId), modes, message)));
+    private void chooseMode(UUID playerId, final Map<UUID, String> modes, final String message) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).chooseAbility(new AbilityPickerView(getGameView(playerId), modes, message)));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void chooseChoice(UUID playerId, final Choice choice) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).chooseChoice(choice));
+    private void chooseChoice(UUID playerId, final Choice choice) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).chooseChoice(choice));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void target(UUID playerId, final String question, final Cards cards, final List<Permanent> perms, final Set<UUID> targets, final boolean required, final Map<String, Serializable> options) throws MageException {
-        perform(playerId, playerId1 -> {
-            if (cards != null) {
-                getGameSession(playerId1).target(question, new CardsView(game, cards.getCards(game), playerId, true), targets, required, options);
-            } else if (perms != null) {
-                CardsView permsView = new CardsView();
-                for (Permanent perm : perms) {
-                    permsView.put(perm.getId(), new PermanentView(perm, game.getCard(perm.getId()), playerId1, game));
+    private void target(UUID playerId, final String question, final Cards cards, final List<Permanent> perms, final Set<UUID> targets, final boolean required, final Map<String, Serializable> options) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> {
+                if (cards != null) {
+                    getGameSession(playerId1).target(question, new CardsView(game, cards.getCards(game), playerId, true), targets, required, options);
+                } else if (perms != null) {
+                    CardsView permsView = new CardsView();
+                    for (Permanent perm : perms) {
+                        permsView.put(perm.getId(), new PermanentView(perm, game.getCard(perm.getId()), playerId1, game));
+                    }
+                    getGameSession(playerId1).target(question, permsView, targets, required, options);
+                } else {
+                    getGameSession(playerId1).target(question, new CardsView(), targets, required, options);
                 }
-                getGameSession(playerId1).target(question, permsView, targets, required, options);
-            } else {
-                getGameSession(playerId1).target(question, new CardsView(), targets, required, options);
-            }
-        });
-
+            });
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void target(UUID playerId, final String question, final Collection<? extends Ability> abilities, final boolean required, final Map<String, Serializable> options) throws MageException {
-        perform(playerId, playerId1 -> {
-            CardsView cardsView = new CardsView(abilities, game);
-            getGameSession(playerId1).target(question, cardsView, null, required, options);
-        });
+    private void target(UUID playerId, final String question, final Collection<? extends Ability> abilities, final boolean required, final Map<String, Serializable> options) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> {
+                CardsView cardsView = new CardsView(abilities, game);
+                getGameSession(playerId1).target(question, cardsView, null, required, options);
+            });
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void select(final UUID playerId, final String message, final Map<String, Serializable> options) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).select(message, options));
+    private void select(final UUID playerId, final String message, final Map<String, Serializable> options) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).select(message, options));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void playMana(UUID playerId, final String message, final Map<String, Serializable> options) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).playMana(message, options));
+    private void playMana(UUID playerId, final String message, final Map<String, Serializable> options) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).playMana(message, options));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void playXMana(UUID playerId, final String message) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).playXMana(message));
+    private void playXMana(UUID playerId, final String message) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).playXMana(message));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void amount(UUID playerId, final String message, final int min, final int max) throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).getAmount(message, min, max));
+    private void amount(UUID playerId, final String message, final int min, final int max) throws MageException {
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).getAmount(message, min, max));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
-    private synchronized void multiAmount(UUID playerId, final List<MultiAmountMessage> messages,
+    private void multiAmount(UUID playerId, final List<MultiAmountMessage> messages,
                                           final int min, final int max, final Map<String, Serializable> options)
             throws MageException {
-        perform(playerId, playerId1 -> getGameSession(playerId1).getMultiAmount(messages, min, max, options));
+        controllerLock.lock();
+        try {
+            perform(playerId, playerId1 -> getGameSession(playerId1).getMultiAmount(messages, min, max, options));
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
     private void informOthers(UUID waitingPlayerId) {
@@ -917,6 +1009,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message.toString());
             }
         }
+        watchersGameView.reset();
         for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
             watcher.inform(message.toString());
         }
@@ -938,6 +1031,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message);
             }
         }
+        watchersGameView.reset();
         for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
             watcher.inform(message);
         }
@@ -967,8 +1061,13 @@ public class GameController implements GameCallback {
         }
     }
 
-    public synchronized GameView getGameView(UUID playerId) {
-        return getGameSession(playerId).getGameView();
+    public GameView getGameView(UUID playerId) {
+        controllerLock.lock();
+        try {
+            return getGameSession(playerId).getGameView();
+        } finally {
+            controllerLock.unlock();
+        }
     }
 
     @Override
@@ -5,6 +5,7 @@ import mage.game.Table;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
+import mage.remote.traffic.ZippedDeltaEncoder;
 import mage.server.User;
 import mage.server.managers.UserManager;
 import mage.view.GameClientMessage;
@@ -30,18 +31,27 @@ public class GameSessionWatcher {
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    private final ZippedDeltaEncoder gameUpdatesEncoder = new ZippedDeltaEncoder(); // send only changes for frequent game updates
+    private final WatchersGameView watchersGameView; // shared view for all watchers, null for players
+    private GameView lastGameView = null; // last sent game update from game thread (for resend on client's request)
 
     public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer) {
+        this(userManager, userId, game, isPlayer, null);
+    }
+
+    public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer, WatchersGameView watchersGameView) {
         this.userManager = userManager;
         this.userId = userId;
         this.game = game;
         this.isPlayer = isPlayer;
+        this.watchersGameView = watchersGameView;
     }
 
     public boolean init() {
         if (!killed) {
             Optional<User> user = userManager.getUser(userId);
             if (user.isPresent()) {
+                gameUpdatesEncoder.reset();
                 // TODO: can be called outside of the game thread, e.g. user start watching already running game
                 //    possible fix: getGameView must use last cached value in non game thread call (split by sessions)
                 user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameView()));
@@ -53,16 +63,54 @@ public class GameSessionWatcher {
 
     public void update() {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            GameView gameView = getGameView();
+            sendGameUpdate(ClientCallbackMethod.GAME_UPDATE, gameView, gameView);
         }
 
     }
 
     public void inform(final String message) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
+            GameClientMessage informMessage = prepareInformMessage(message);
+            sendGameUpdate(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, informMessage, informMessage.getGameView());
+        }
+
+    }
+
+    private synchronized void sendGameUpdate(ClientCallbackMethod method, Object data, GameView gameView) {
+        lastGameView = gameView;
+        userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(method, game.getId(), compressGameUpdate(user, data))));
+    }
+
+    /**
+     * Client lost full data of game updates, so send full data now
+     * <p>
+     * It's called from user's thread, so it sends last game update instead new one (game data can be changed
+     * by game thread at the same time)
+     */
+    public synchronized void resendGameUpdate() {
+        if (!killed) {
+            gameUpdatesEncoder.requestKeyFrame();
+            if (lastGameView != null) {
+                userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), compressGameUpdate(user, lastGameView))));
+            }
         }
+    }
+
+    /**
+     * Game updates can be ignored by client on outdated or missing data, so it's safe to send it as deltas
+     * (other messages like dialogs must be sent as full data)
+     */
+    private Object compressGameUpdate(User user, Object data) {
+        byte[] rawData = watchersGameView == null ? null : watchersGameView.getSerializedData(data);
+        return gameUpdatesEncoder.encode(data, rawData, user.getSessionId(), user.getTrafficCodec());
+    }
 
+    private GameClientMessage prepareInformMessage(String message) {
+        if (watchersGameView != null) {
+            return watchersGameView.getInformMessage(userId, message);
+        }
+        return new GameClientMessage(getGameView(), null, message);
     }
 
     public void informPersonal(final String message) {
@@ -99,6 +147,10 @@ public class GameSessionWatcher {
     }
 
     public GameView getGameView() {
+        if (watchersGameView != null) {
+            return watchersGameView.getGameView(userId);
+        }
+
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
         Game sourceGame = game.copy();
@@ -0,0 +1,108 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.players.Player;
+import mage.remote.traffic.ZippedDeltaEncoder;
+import mage.view.GameClientMessage;
+import mage.view.GameView;
+
+import java.util.UUID;
+
+/**
+ * Game view for all watchers (spectators) of the game
+ * <p>
+ * Watchers see same public info, so game view builds one time per game update instead each watcher.
+ * Personal info (watched hands) adds to the view's copy. Same data for all watchers serializes one time too.
+ * <p>
+ * Game controller must reset it on any game changes (before watchers update)
+ */
+public class WatchersGameView {
+
+    private final Game game;
+
+    private Game sourceGame = null; // game's copy for thread safe view calculation
+    private GameView gameView = null;
+    private byte[] gameViewData = null;
+    private String informMessage = null;
+    private GameClientMessage informGameMessage = null;
+    private byte[] informGameMessageData = null;
+
+    public WatchersGameView(Game game) {
+        this.game = game;
+    }
+
+    public synchronized void reset() {
+        this.sourceGame = null;
+        this.gameView = null;
+        this.gameViewData = null;
+        this.informMessage = null;
+        this.informGameMessage = null;
+        this.informGameMessageData = null;
+    }
+
+    private void prepareGameView() {
+        if (gameView == null) {
+            // game view calculation can take some time and can be called from non-game thread,
+            // so use copy for thread save (protection from ConcurrentModificationException)
+            sourceGame = game.copy();
+            gameView = new GameView(sourceGame.getState(), sourceGame, null, null);
+        }
+    }
+
+    public synchronized GameView getGameView(UUID userId) {
+        prepareGameView();
+        if (!canSeeAnyHand(userId)) {
+            return gameView;
+        }
+
+        GameView personalView = new GameView(gameView);
+        GameSessionWatcher.processWatchedHands(sourceGame, userId, personalView);
+        return personalView;
+    }
+
+    public synchronized GameClientMessage getInformMessage(UUID userId, String message) {
+        GameView view = getGameView(userId);
+        if (view != gameView) {
+            return new GameClientMessage(view, null, message);
+        }
+        if (informGameMessage == null || !message.equals(informMessage)) {
+            informMessage = message;
+            informGameMessage = new GameClientMessage(gameView, null, message);
+            informGameMessageData = null;
+        }
+        return informGameMessage;
+    }
+
+    /**
+     * Serialized data for shared objects (same for all watchers), see {@link ZippedDeltaEncoder}
+     *
+     * @return null for personal data
+     */
+    public synchronized byte[] getSerializedData(Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data == gameView) {
+            if (gameViewData == null) {
+                gameViewData = ZippedDeltaEncoder.serialize(gameView);
+            }
+            return gameViewData;
+        }
+        if (data == informGameMessage) {
+            if (informGameMessageData == null) {
+                informGameMessageData = ZippedDeltaEncoder.serialize(informGameMessage);
+            }
+            return informGameMessageData;
+        }
+        return null;
+    }
+
+    private boolean canSeeAnyHand(UUID userId) {
+        for (Player player : sourceGame.getPlayers().values()) {
+            if (player.hasUserPermissionToSeeHand(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -26,6 +26,8 @@ public interface ConfigSettings {
 
     int getMaxGameThreads();
 
+    boolean isUseVirtualThreads();
+
     int getMaxSecondsIdle();
 
     int getMinUserNameLength();
@@ -42,6 +44,8 @@ public interface ConfigSettings {
 
     Boolean isSaveGameActivated();
 
+    int getMaxSavedGameStates();
+
     Boolean isAuthenticationActivated();
 
     String getGoogleAccount();
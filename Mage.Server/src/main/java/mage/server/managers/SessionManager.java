@@ -23,6 +23,14 @@ public interface SessionManager {
 
     boolean setUserData(String userName, String sessionId, UserData userData, String clientVersion, String userIdStr) throws MageException;
 
+    /**
+     * Select codec for the server's data
+     *
+     * @param preferredCodecs client's codecs by priority, e.g. "deflate,gzip"
+     * @return name of the selected codec
+     */
+    String setTrafficCodec(String sessionId, String preferredCodecs);
+
     /**
      * Disconnect from a session side, e.g. on connection error
      *
@@ -5,6 +5,7 @@ import mage.server.util.config.Config;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
 
+import java.math.BigInteger;
 import java.util.List;
 
 public class ConfigWrapper implements ConfigSettings {
@@ -55,6 +56,10 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().getMaxGameThreads().intValue();
     }
 
+    public boolean isUseVirtualThreads() {
+        return Boolean.TRUE.equals(config.getServer().isUseVirtualThreads());
+    }
+
     public int getMaxSecondsIdle() {
         return config.getServer().getMaxSecondsIdle().intValue();
     }
@@ -87,6 +92,11 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().isSaveGameActivated();
     }
 
+    public int getMaxSavedGameStates() {
+        BigInteger value = config.getServer().getMaxSavedGameStates();
+        return value == null ? 0 : value.intValue();
+    }
+
     public Boolean isAuthenticationActivated() {
         return config.getServer().isAuthenticationActivated();
     }
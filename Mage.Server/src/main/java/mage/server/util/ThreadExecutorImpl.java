@@ -19,9 +19,9 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     // example: server can have 50 games and 10 tourney at a time
     private static final int GAMES_PER_TOURNEY_RATIO = 50 / 10;
 
-    private final ExecutorService callExecutor; // shareable threads to run single task (example: save new game settings from a user, send chat message, etc)
-    private final ExecutorService gameExecutor; // game threads to run long tasks, one per game (example: run game and wait user's feedback)
-    private final ExecutorService tourneyExecutor; // tourney threads (example: make draft, construction, build and run other game threads)
+    private final ThreadPoolExecutor callExecutor; // shareable threads to run single task (example: save new game settings from a user, send chat message, etc)
+    private final ThreadPoolExecutor gameExecutor; // game threads to run long tasks, one per game (example: run game and wait user's feedback)
+    private final ThreadPoolExecutor tourneyExecutor; // tourney threads (example: make draft, construction, build and run other game threads)
     private final ScheduledExecutorService timeoutExecutor;
     private final ScheduledExecutorService timeoutIdleExecutor;
     private final ScheduledExecutorService serverHealthExecutor;
@@ -38,20 +38,45 @@ public class ThreadExecutorImpl implements ThreadExecutor {
      */
 
     public ThreadExecutorImpl(ConfigSettings config) {
-        callExecutor = new CachedThreadPoolWithException();
-        ((ThreadPoolExecutor) callExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
-
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        // virtual threads mode: game and tourney threads are waiting for users most of the time,
+        // so virtual threads allow much more active games without OS threads and memory overhead (java 21+ only)
+        boolean useVirtualThreads = config.isUseVirtualThreads();
+        if (useVirtualThreads && !XmageThreadFactory.isVirtualThreadsSupported()) {
+            logger.warn("Virtual threads are not supported by current java " + System.getProperty("java.version")
+                    + ", server will use OS threads (java 21+ required)");
+            useVirtualThreads = false;
+        }
+        if (useVirtualThreads) {
+            logger.info("Server will use virtual threads for games, tourneys and client requests");
+        }
 
-        tourneyExecutor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
-        ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) tourneyExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) tourneyExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY));
+        if (useVirtualThreads) {
+            // virtual threads are cheap and must not be pooled, so run each task in a new thread without pool limits
+            // (same as Executors.newVirtualThreadPerTaskExecutor, but with errors logging and active counts),
+            // maxGameThreads limits OS threads only
+            callExecutor = new CachedThreadPoolWithException(0);
+            callExecutor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST, true, true));
+
+            gameExecutor = new FixedThreadPoolWithException();
+            gameExecutor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME, true, true));
+
+            tourneyExecutor = new FixedThreadPoolWithException();
+            tourneyExecutor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY, true, true));
+        } else {
+            callExecutor = new CachedThreadPoolWithException(60);
+            callExecutor.allowCoreThreadTimeOut(true);
+            callExecutor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
+
+            gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+            gameExecutor.setKeepAliveTime(60, TimeUnit.SECONDS);
+            gameExecutor.allowCoreThreadTimeOut(true);
+            gameExecutor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+
+            tourneyExecutor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
+            tourneyExecutor.setKeepAliveTime(60, TimeUnit.SECONDS);
+            tourneyExecutor.allowCoreThreadTimeOut(true);
+            tourneyExecutor.setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY));
+        }
 
         timeoutExecutor = Executors.newScheduledThreadPool(4);
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
@@ -68,9 +93,12 @@ public class ThreadExecutorImpl implements ThreadExecutor {
 
     static class CachedThreadPoolWithException extends ThreadPoolExecutor {
 
-        CachedThreadPoolWithException() {
+        /**
+         * @param keepAliveSeconds use 0 for virtual threads, so each task runs in a new thread
+         */
+        CachedThreadPoolWithException(long keepAliveSeconds) {
             // use same params as Executors.newCachedThreadPool()
-            super(0, Integer.MAX_VALUE,60L, TimeUnit.SECONDS, new SynchronousQueue<>());
+            super(0, Integer.MAX_VALUE, keepAliveSeconds, TimeUnit.SECONDS, new SynchronousQueue<>());
         }
 
         @Override
@@ -92,6 +120,13 @@ public class ThreadExecutorImpl implements ThreadExecutor {
             super(nThreads, nThreads,0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
         }
 
+        /**
+         * Unlimited pool for virtual threads, each task runs in a new thread
+         */
+        FixedThreadPoolWithException() {
+            super(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+        }
+
         @Override
         protected void afterExecute(Runnable r, Throwable t) {
             super.afterExecute(r, t);
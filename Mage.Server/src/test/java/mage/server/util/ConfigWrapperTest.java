@@ -35,6 +35,7 @@ public class ConfigWrapperTest {
         public int numAcceptThreads;
         public int backlogSize;
         public int maxGameThreads;
+        public boolean useVirtualThreads;
         public int maxSecondsIdle;
         public int minUsernameLength;
         public int maxUsernameLength;
@@ -43,6 +44,7 @@ public class ConfigWrapperTest {
         public int maxPasswordLength;
         public String maxAiOpponents;
         public boolean saveGameActivated;
+        public int maxSavedGameStates;
         public boolean authenticationActivated;
         public String googleAccount;
         public String mailgunApiKey;
@@ -86,6 +88,7 @@ public class ConfigWrapperTest {
             server.setNumAcceptThreads(bi(numAcceptThreads));
             server.setBacklogSize(bi(backlogSize));
             server.setMaxGameThreads(bi(maxGameThreads));
+            server.setUseVirtualThreads(useVirtualThreads);
             server.setMaxSecondsIdle(bi(maxSecondsIdle));
             server.setMinUserNameLength(bi(minUsernameLength));
             server.setMaxUserNameLength(bi(maxUsernameLength));
@@ -94,6 +97,7 @@ public class ConfigWrapperTest {
             server.setMaxPasswordLength(bi(maxPasswordLength));
             server.setMaxAiOpponents(maxAiOpponents);
             server.setSaveGameActivated(saveGameActivated);
+            server.setMaxSavedGameStates(bi(maxSavedGameStates));
             server.setAuthenticationActivated(authenticationActivated);
             server.setGoogleAccount(googleAccount);
             server.setMailgunApiKey(mailgunApiKey);
@@ -163,6 +167,7 @@ public class ConfigWrapperTest {
                 testInt("number of accept threads", c -> c.numAcceptThreads = expectedPositiveInt, ConfigWrapper::getNumAcceptThreads),
                 testInt("backlog size", c -> c.backlogSize = expectedPositiveInt, ConfigWrapper::getBacklogSize),
                 testInt("max game threads", c -> c.maxGameThreads = expectedPositiveInt, ConfigWrapper::getMaxGameThreads),
+                testTrue("use virtual threads", c -> c.useVirtualThreads = true, ConfigWrapper::isUseVirtualThreads),
                 testInt("max seconds idle", c -> c.maxSecondsIdle = expectedPositiveInt, ConfigWrapper::getMaxSecondsIdle),
                 testInt("min username length", c -> c.minUsernameLength = expectedPositiveInt, ConfigWrapper::getMinUserNameLength),
                 testInt("max username length", c -> c.maxUsernameLength = expectedPositiveInt, ConfigWrapper::getMaxUserNameLength),
@@ -171,6 +176,7 @@ public class ConfigWrapperTest {
                 testInt("max password length", c -> c.maxPasswordLength = expectedPositiveInt, ConfigWrapper::getMaxPasswordLength),
                 testString("max AI opponents", c -> c.maxAiOpponents = expectedString, ConfigWrapper::getMaxAiOpponents),
                 testTrue("save game activated", c -> c.saveGameActivated = true, ConfigWrapper::isSaveGameActivated),
+                testInt("max saved game states", c -> c.maxSavedGameStates = expectedPositiveInt, ConfigWrapper::getMaxSavedGameStates),
                 testTrue("authentication activated", c -> c.authenticationActivated = true, ConfigWrapper::isAuthenticationActivated),
                 testString("google account", c -> c.googleAccount = expectedString, ConfigWrapper::getGoogleAccount),
                 testString("mailgun api key", c -> c.mailgunApiKey = expectedString, ConfigWrapper::getMailgunApiKey),
@@ -0,0 +1,93 @@
+package mage.server.util;
+
+import mage.server.util.config.Config;
+import mage.server.util.config.Server;
+import mage.util.XmageThreadFactory;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThreadExecutorImplTest {
+
+    private static final int MAX_GAME_THREADS = 2;
+    private static final int GAMES_AMOUNT = 10;
+
+    private static ThreadExecutorImpl createExecutor(boolean useVirtualThreads) {
+        Server server = new Server();
+        server.setMaxGameThreads(BigInteger.valueOf(MAX_GAME_THREADS));
+        server.setUseVirtualThreads(useVirtualThreads);
+        Config config = new Config();
+        config.setServer(server);
+        return new ThreadExecutorImpl(new ConfigWrapper(config));
+    }
+
+    /**
+     * Start all games and wait until it run at the same time
+     *
+     * @return amount of started games
+     */
+    private static int runWaitingGames(ExecutorService executor, AtomicInteger virtualThreads) throws Exception {
+        CountDownLatch started = new CountDownLatch(GAMES_AMOUNT);
+        CountDownLatch finish = new CountDownLatch(1);
+        for (int i = 0; i < GAMES_AMOUNT; i++) {
+            executor.submit(() -> {
+                if (isVirtual(Thread.currentThread())) {
+                    virtualThreads.incrementAndGet();
+                }
+                started.countDown();
+                finish.await(); // game waits for user's answer
+                return null;
+            });
+        }
+        started.await(2, TimeUnit.SECONDS);
+        finish.countDown();
+        return GAMES_AMOUNT - (int) started.getCount();
+    }
+
+    private static void shutdown(ExecutorService executor) throws Exception {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException e) {
+            return false; // java below 21
+        }
+    }
+
+    @Test
+    public void testOsThreadsLimitedByMaxGameThreads() throws Exception {
+        ThreadExecutorImpl executor = createExecutor(false);
+        AtomicInteger virtualThreads = new AtomicInteger();
+
+        assertThat(runWaitingGames(executor.getGameExecutor(), virtualThreads)).isEqualTo(MAX_GAME_THREADS);
+        assertThat(virtualThreads.get()).isZero();
+        shutdown(executor.getGameExecutor());
+    }
+
+    @Test
+    public void testVirtualThreadsNotLimitedByMaxGameThreads() throws Exception {
+        Assumptions.assumeTrue(XmageThreadFactory.isVirtualThreadsSupported(), "virtual threads require java 21+");
+        ThreadExecutorImpl executor = createExecutor(true);
+
+        AtomicInteger virtualThreads = new AtomicInteger();
+        assertThat(runWaitingGames(executor.getGameExecutor(), virtualThreads)).isEqualTo(GAMES_AMOUNT);
+        assertThat(virtualThreads.get()).isEqualTo(GAMES_AMOUNT);
+
+        virtualThreads.set(0);
+        assertThat(runWaitingGames(executor.getCallExecutor(), virtualThreads)).isEqualTo(GAMES_AMOUNT);
+        assertThat(virtualThreads.get()).isEqualTo(GAMES_AMOUNT);
+
+        shutdown(executor.getGameExecutor());
+        shutdown(executor.getCallExecutor());
+    }
+}
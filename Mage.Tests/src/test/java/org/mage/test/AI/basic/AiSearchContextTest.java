@@ -0,0 +1,58 @@
+package org.mage.test.AI.basic;
+
+import mage.player.ai.AiSearchContext;
+import mage.players.AiSearchStats;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class AiSearchContextTest {
+
+    private static final String AI_TYPE = "test-ai";
+
+    @Test
+    public void test_CountersArePerDecision() {
+        AiSearchStats.clear();
+
+        AiSearchContext first = new AiSearchContext(AI_TYPE, "player 1");
+        first.addNode();
+        first.addNodes(9);
+        first.updateDepth(3);
+        first.updateDepth(2);
+        first.addEvaluationTime(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(10, first.getNodes());
+        Assert.assertEquals(10, first.getSearchNodes());
+        Assert.assertEquals(3, first.getMaxDepth());
+
+        // next search inside same decision (iterative deepening) must check own nodes only
+        first.startSearch();
+        first.addNodes(5);
+        Assert.assertEquals(15, first.getNodes());
+        Assert.assertEquals(5, first.getSearchNodes());
+        first.finish(false);
+
+        // new decision must start from zero
+        AiSearchContext second = new AiSearchContext(AI_TYPE, "player 2");
+        Assert.assertEquals(0, second.getNodes());
+        Assert.assertEquals(0, second.getSearchNodes());
+        Assert.assertEquals(0, second.getMaxDepth());
+        Assert.assertEquals(0, second.getGameCopies());
+        second.addNode();
+        second.finish(true);
+        Assert.assertEquals(15, first.getNodes());
+
+        List<String> info = AiSearchStats.getInfo();
+        List<String> decisions = info.stream()
+                .filter(s -> s.startsWith(" - " + AI_TYPE))
+                .collect(Collectors.toList());
+        Assert.assertTrue(info.stream().anyMatch(s -> s.startsWith(AI_TYPE + ": decisions 2, timeouts 1, avg nodes 8")));
+        Assert.assertEquals(2, decisions.size());
+        Assert.assertTrue(decisions.get(0), decisions.get(0).startsWith(" - " + AI_TYPE + ", player 2: TIMEOUT, nodes 1, depth 0"));
+        Assert.assertTrue(decisions.get(0), decisions.get(0).contains("evaluation 0 ms"));
+        Assert.assertTrue(decisions.get(1), decisions.get(1).startsWith(" - " + AI_TYPE + ", player 1: done, nodes 15, depth 3"));
+        Assert.assertFalse(decisions.get(1), decisions.get(1).contains("evaluation 0 ms"));
+    }
+}
@@ -0,0 +1,44 @@
+package org.mage.test.AI.basic;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.player.ai.ComputerPlayer6;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBaseWithAIHelps;
+
+/**
+ * AI must find same actions with and without iterative deepening
+ */
+public class IterativeDeepeningAITest extends CardTestPlayerBaseWithAIHelps {
+
+    private void runKillBestCreatureBolt(boolean iterativeDeepening) {
+        ((ComputerPlayer6) playerA.getComputerPlayer()).setIterativeDeepening(iterativeDeepening);
+
+        // Lightning Bolt deals 3 damage to any target.
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1); // 3/3
+
+        // AI must kill the best creature
+        aiPlayPriority(1, PhaseStep.PRECOMBAT_MAIN, playerA);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+
+        assertGraveyardCount(playerA, "Lightning Bolt", 1);
+        assertPermanentCount(playerB, "Silvercoat Lion", 1);
+        assertPermanentCount(playerB, "Hill Giant", 0);
+    }
+
+    @Test
+    public void test_FullDepthSearch() {
+        runKillBestCreatureBolt(false);
+    }
+
+    @Test
+    public void test_IterativeSearch() {
+        runKillBestCreatureBolt(true);
+    }
+}
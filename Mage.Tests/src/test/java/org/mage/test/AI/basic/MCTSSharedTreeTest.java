@@ -0,0 +1,123 @@
+package org.mage.test.AI.basic;
+
+import mage.player.ai.AiSearchContext;
+import mage.player.ai.MCTSNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI: MCTS tree is shared by all simulation threads, so nodes must be consistent after parallel usage
+ */
+public class MCTSSharedTreeTest {
+
+    private static final int THREADS = 8;
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+
+    private static class TestNode extends MCTSNode {
+
+        private final AtomicInteger expandCalls = new AtomicInteger();
+
+        private TestNode(TestNode parent, UUID playerId) {
+            super(parent, playerId);
+        }
+
+        @Override
+        protected List<MCTSNode> createChildren(AiSearchContext context) {
+            expandCalls.incrementAndGet();
+            List<MCTSNode> res = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                res.add(new TestNode(this, PLAYER_ID));
+            }
+            return res;
+        }
+    }
+
+    private void runInThreads(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_ExpandOnce() throws Exception {
+        TestNode root = new TestNode(null, PLAYER_ID);
+        AiSearchContext context = new AiSearchContext("test-mcts", "test");
+        AtomicInteger expandedByThreads = new AtomicInteger();
+
+        runInThreads(() -> {
+            if (root.expand(context)) {
+                expandedByThreads.incrementAndGet();
+            }
+        });
+
+        Assert.assertEquals(1, expandedByThreads.get());
+        Assert.assertEquals(1, root.expandCalls.get());
+        Assert.assertTrue(root.isExpanded());
+        Assert.assertEquals(3, root.getNumChildren());
+    }
+
+    @Test
+    public void test_VisitsAndWinsAfterParallelSearch() throws Exception {
+        TestNode root = new TestNode(null, PLAYER_ID);
+        root.expand(new AiSearchContext("test-mcts", "test"));
+        int iterations = 1000;
+        AtomicInteger needVisits = new AtomicInteger();
+        AtomicInteger needWins = new AtomicInteger();
+
+        runInThreads(() -> {
+            for (int i = 0; i < iterations; i++) {
+                // same as MCTSExecutor: virtual loss on selection, result on backpropagation
+                root.addVirtualLoss();
+                MCTSNode child = root.select(PLAYER_ID);
+                child.addVirtualLoss();
+                int result = i % 3 - 1; // loss, ignored simulation, win
+                if (result != 0) {
+                    needVisits.incrementAndGet();
+                }
+                if (result == 1) {
+                    needWins.incrementAndGet();
+                }
+                child.backpropagate(result);
+            }
+        });
+
+        int childrenVisits = 0;
+        int childrenWins = 0;
+        while (root.getNumChildren() > 0) {
+            MCTSNode child = root.bestChild();
+            childrenVisits += child.getVisits();
+            childrenWins += child.getWins();
+            child.emancipate();
+        }
+
+        Assert.assertEquals(needVisits.get(), root.getVisits());
+        Assert.assertEquals(needWins.get(), root.getWins());
+        Assert.assertEquals(needVisits.get(), childrenVisits);
+        Assert.assertEquals(needWins.get(), childrenWins);
+    }
+}
@@ -0,0 +1,56 @@
+package org.mage.test.AI.basic;
+
+import mage.player.ai.TranspositionTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void test_StoreAndLookup() {
+        TranspositionTable table = new TranspositionTable(16);
+        Assert.assertNull(table.get(1));
+
+        table.put(1, 3, 100, true, "action 1");
+        TranspositionTable.Entry entry = table.get(1);
+        Assert.assertNotNull(entry);
+        Assert.assertEquals(3, entry.getDepth());
+        Assert.assertEquals(100, entry.getScore());
+        Assert.assertTrue(entry.isExactScore());
+        Assert.assertEquals("action 1", entry.getBestAction());
+
+        // same slot, but other state
+        Assert.assertNull(table.get(1 + 16));
+
+        table.clear();
+        Assert.assertNull(table.get(1));
+    }
+
+    @Test
+    public void test_ReplacementPolicy() {
+        TranspositionTable table = new TranspositionTable(16);
+
+        // same state: keep more deep result
+        table.put(1, 3, 100, true, "deep");
+        table.put(1, 2, 200, true, "less deep");
+        Assert.assertEquals("deep", table.get(1).getBestAction());
+
+        // same state and depth: keep exact score
+        table.put(1, 3, 300, false, "not exact");
+        Assert.assertEquals("deep", table.get(1).getBestAction());
+        table.put(1, 3, 400, true, "same depth");
+        Assert.assertEquals("same depth", table.get(1).getBestAction());
+        table.put(1, 4, 500, false, "more deep");
+        Assert.assertEquals("more deep", table.get(1).getBestAction());
+
+        // other state in same slot: always replace by new result
+        table.put(1 + 16, 1, 600, false, "other state");
+        Assert.assertNull(table.get(1));
+        Assert.assertEquals("other state", table.get(1 + 16).getBestAction());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_WrongSize() {
+        new TranspositionTable(10);
+    }
+}
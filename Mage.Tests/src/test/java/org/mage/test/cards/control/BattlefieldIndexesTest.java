@@ -0,0 +1,108 @@
+package org.mage.test.cards.control;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Battlefield's searches by controller and phasing must be same as full search
+ */
+public class BattlefieldIndexesTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_ControlChangesAndPhasing() {
+        // Gain control of target creature until end of turn. Untap that creature.
+        // It gains haste until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason"); // {2}{R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 6);
+        // Phasing
+        addCard(Zone.HAND, playerA, "Tolarian Drake"); // {2}{U}
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 6);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+
+        runCode("before control change", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertIndexes(info, game);
+            assertControlled(info, game, playerB, "Silvercoat Lion", 1);
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Tolarian Drake");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Silvercoat Lion");
+        runCode("after control change", 1, PhaseStep.POSTCOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertIndexes(info, game);
+            assertIndexes(info + " (game copy)", game.copy());
+            assertControlled(info, game, playerA, "Silvercoat Lion", 1);
+            assertControlled(info, game, playerB, "Silvercoat Lion", 0);
+        });
+
+        runCode("after control returns", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            assertIndexes(info, game);
+            assertControlled(info, game, playerA, "Silvercoat Lion", 0);
+            assertControlled(info, game, playerB, "Silvercoat Lion", 1);
+        });
+
+        runCode("after phasing", 3, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertIndexes(info, game);
+            assertControlled(info, game, playerA, "Tolarian Drake", 0);
+            Assert.assertEquals(info, 1, game.getBattlefield().getPhasedOut(playerA.getId()).size());
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_SetControllerId() {
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+
+        runCode("set controller", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertIndexes(info + " (before)", game);
+            Permanent permanent = game.getBattlefield().getAllPermanents()
+                    .stream()
+                    .filter(p -> p.getName().equals("Silvercoat Lion"))
+                    .findFirst()
+                    .orElse(null);
+            Assert.assertNotNull(info, permanent);
+            permanent.setControllerId(playerA.getId(), game);
+            assertIndexes(info, game);
+            assertControlled(info, game, playerA, "Silvercoat Lion", 1);
+            assertControlled(info, game, playerB, "Silvercoat Lion", 0);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private void assertIndexes(String info, Game game) {
+        for (Player player : game.getPlayers().values()) {
+            List<Permanent> needActive = game.getBattlefield().getAllPermanents()
+                    .stream()
+                    .filter(p -> p.isPhasedIn() && p.isControlledBy(player.getId()))
+                    .collect(Collectors.toList());
+            List<Permanent> needPhasedOut = game.getBattlefield().getAllPermanents()
+                    .stream()
+                    .filter(p -> !p.isPhasedIn() && p.isControlledBy(player.getId()))
+                    .collect(Collectors.toList());
+            Assert.assertEquals(info + " - active", needActive, game.getBattlefield().getAllActivePermanents(player.getId()));
+            Assert.assertEquals(info + " - phased out", needPhasedOut, game.getBattlefield().getPhasedOut(player.getId()));
+        }
+    }
+
+    private void assertControlled(String info, Game game, Player player, String cardName, int count) {
+        long actual = game.getBattlefield().getAllActivePermanents(player.getId())
+                .stream()
+                .filter(p -> p.getName().equals(cardName))
+                .count();
+        Assert.assertEquals(info + " - " + cardName, count, actual);
+    }
+}
@@ -9,7 +9,9 @@ import org.mage.test.serverside.base.CardTestPlayerBase;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author JayDi85
@@ -35,6 +37,21 @@ public class ManaMazeTest extends CardTestPlayerBase {
         CardUtil.deepCopyObject(sourceObjectList);
     }
 
+    @Test
+    public void test_DeepCopy_SharedReferences() {
+        // same object inside copied structure must be copied one time and keep shared in the copy
+        List<String> sharedList = new ArrayList<>(Arrays.asList("val1", "val2"));
+        Map<String, List<String>> sourceMap = new HashMap<>();
+        sourceMap.put("key1", sharedList);
+        sourceMap.put("key2", sharedList);
+
+        Map<String, List<String>> copyMap = CardUtil.deepCopyObject(sourceMap);
+        Assert.assertNotSame(sourceMap, copyMap);
+        Assert.assertNotSame(sharedList, copyMap.get("key1"));
+        Assert.assertSame(copyMap.get("key1"), copyMap.get("key2"));
+        Assert.assertEquals(sharedList, copyMap.get("key1"));
+    }
+
     @Test
     public void test_DeepCopy_WatcherWithSelfReference() {
         // stack overflow bug: https://github.com/magefree/mage/issues/11572
@@ -4,6 +4,7 @@ import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.remote.Session;
+import mage.remote.traffic.ZippedDeltaDecoder;
 import mage.view.*;
 import org.apache.log4j.Logger;
 import org.jsoup.Jsoup;
@@ -31,6 +32,7 @@ public class LoadCallbackClient implements CallbackClient {
     private volatile int controlCount;
 
     private GameView gameView;
+    private final ZippedDeltaDecoder gameUpdatesDecoder = new ZippedDeltaDecoder();
 
     private final String logsPrefix;
     private final Boolean showLogsAsHtml; // original game logs in HTML, but it can be converted to txt for more readable console
@@ -53,7 +55,13 @@ public class LoadCallbackClient implements CallbackClient {
 
     @Override
     public void onCallback(ClientCallback callback) {
-        callback.decompressData();
+        if (!callback.decompressData(gameUpdatesDecoder)) {
+            log.warn(getLogStartInfo() + "ignore game update without full data: " + callback.getMethod());
+            if (callback.isKeyFrameRequired()) {
+                session.sendPlayerAction(PlayerAction.CLIENT_REQUEST_FULL_GAME_UPDATE, callback.getObjectId(), null);
+            }
+            return;
+        }
         controlCount = 0;
 
         // ignore bloated logs
@@ -0,0 +1,70 @@
+package org.mage.test.rollback;
+
+import mage.abilities.effects.ContinuousEffect;
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.SubType;
+import mage.constants.Zone;
+import mage.game.Game;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Layered effects must keep timestamps after game copy and rollback (new timestamps can change apply order)
+ */
+public class LayerTimestampsTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SameTimestampsAfterCopyAndRestore() {
+        // Nonbasic lands are Mountains
+        addCard(Zone.HAND, playerA, "Blood Moon"); // {2}{R}
+        // Each land is a Swamp in addition to its other land types.
+        addCard(Zone.HAND, playerA, "Urborg, Tomb of Yawgmoth");
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Canopy Vista", 1);
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerB, "Glorious Anthem", 1);
+
+        playLand(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Urborg, Tomb of Yawgmoth");
+        castSpell(1, PhaseStep.POSTCOMBAT_MAIN, playerA, "Blood Moon");
+
+        runCode("game copy", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            Map<UUID, Long> needTimestamps = getTimestamps(game);
+            Assert.assertEquals(info, 2, needTimestamps.size());
+
+            Game copy = game.copy();
+            Assert.assertEquals(info, needTimestamps, getTimestamps(copy));
+            copy.getContinuousEffects().apply(copy);
+            Assert.assertEquals(info, needTimestamps, getTimestamps(copy));
+        });
+
+        runCode("bookmark restore", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            Map<UUID, Long> needTimestamps = getTimestamps(game);
+            int bookmark = game.bookmarkState();
+            game.getContinuousEffects().apply(game);
+            Assert.assertNotNull(info, game.restoreState(bookmark, info));
+            Assert.assertEquals(info, needTimestamps, getTimestamps(game));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertType("Canopy Vista", CardType.LAND, SubType.MOUNTAIN);
+        assertNotSubtype("Canopy Vista", SubType.FOREST);
+        assertNotSubtype("Canopy Vista", SubType.SWAMP);
+    }
+
+    private Map<UUID, Long> getTimestamps(Game game) {
+        Map<UUID, Long> res = new LinkedHashMap<>();
+        for (ContinuousEffect effect : game.getContinuousEffects().getLayeredEffects(game)) {
+            res.put(effect.getId(), effect.getOrder());
+        }
+        return res;
+    }
+}
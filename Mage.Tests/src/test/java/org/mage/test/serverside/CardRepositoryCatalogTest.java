@@ -0,0 +1,112 @@
+package org.mage.test.serverside;
+
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mage.test.serverside.base.MageTestPlayerBase;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Card searches work with in-memory catalog, so it must return same cards as db
+ */
+public class CardRepositoryCatalogTest extends MageTestPlayerBase {
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+    }
+
+    @Test
+    public void test_CriteriaSameAsDatabase() {
+        assertSameAsDatabase("set", () -> new CardCriteria().setCodes("M10"));
+        assertSameAsDatabase("set ignore case", () -> new CardCriteria().setCodes("m10"));
+        assertSameAsDatabase("name ignore case", () -> new CardCriteria().name("silvercoat lion"));
+        assertSameAsDatabase("name contains", () -> new CardCriteria().nameContains("dragon"));
+        assertSameAsDatabase("rules and types", () -> new CardCriteria().rules("flying").types(CardType.ARTIFACT));
+        assertSameAsDatabase("types and rarity", () -> new CardCriteria()
+                .types(CardType.CREATURE, CardType.PLANESWALKER).rarities(Rarity.RARE, Rarity.MYTHIC).manaValue(3));
+        assertSameAsDatabase("basic lands", () -> new CardCriteria()
+                .supertypes(SuperType.BASIC).ignoreSetsWithSnowLands().setCodes("M10", "ZEN", "CSP"));
+        assertSameAsDatabase("not types", () -> new CardCriteria()
+                .notTypes(CardType.LAND, CardType.CREATURE).notSupertypes(SuperType.LEGENDARY).setCodes("DOM"));
+        assertSameAsDatabase("subtypes and colors", () -> new CardCriteria()
+                .subtypes(SubType.ELF).black(false).blue(false).white(false).red(false).colorless(false));
+        assertSameAsDatabase("colorless", () -> new CardCriteria()
+                .black(false).blue(false).white(false).red(false).green(false).setCodes("MRD"));
+        assertSameAsDatabase("double faced and night cards", () -> new CardCriteria()
+                .nightCard(null).doubleFaced(true).setCodes("ISD"));
+        assertSameAsDatabase("card numbers", () -> new CardCriteria()
+                .setCodes("KHM").minCardNumber(100).maxCardNumber(150));
+        assertSameAsDatabase("start and count", () -> new CardCriteria()
+                .setCodes("M10").start(10L).count(20L));
+    }
+
+    @Test
+    public void test_FindByNames() {
+        Assert.assertFalse(CardRepository.instance.findCards("Silvercoat Lion").isEmpty());
+        Assert.assertEquals(
+                CardRepository.instance.findCards("Silvercoat Lion").size(),
+                CardRepository.instance.findCards("SILVERCOAT LION").size()
+        );
+
+        // split card by full or half name
+        Assert.assertEquals("Fire // Ice", CardRepository.instance.findCards("Fire // Ice").get(0).getName());
+        Assert.assertEquals("Fire // Ice", CardRepository.instance.findCards("Fire").get(0).getName());
+        Assert.assertEquals("Fire", CardRepository.instance.findCards("Fire", 0, true, true).get(0).getName());
+
+        // second side
+        Assert.assertEquals("Delver of Secrets", CardRepository.instance.findCards("Insectile Aberration").get(0).getName());
+        Assert.assertEquals("Delver of Secrets", CardRepository.instance.findCards("Delver of Secrets // Insectile Aberration").get(0).getName());
+
+        // limit
+        Assert.assertEquals(1, CardRepository.instance.findCards("Forest", 1).size());
+
+        // set and number
+        CardInfo card = CardRepository.instance.findCard("M10", "146");
+        Assert.assertNotNull(card);
+        Assert.assertEquals("Lightning Bolt", card.getName());
+        Assert.assertNull(CardRepository.instance.findCard("M10", "unknown"));
+
+        Assert.assertTrue(CardRepository.instance.getNames().contains("Insectile Aberration"));
+        Assert.assertTrue(CardRepository.instance.getLandNames().contains("Forest"));
+        Assert.assertFalse(CardRepository.instance.getNonLandNames().contains("Forest"));
+        Assert.assertFalse(CardRepository.instance.getNotBasicLandNames().contains("Forest"));
+        Assert.assertTrue(CardRepository.instance.getNonbasicLandNames().contains("Wasteland"));
+    }
+
+    private void assertSameAsDatabase(String info, Supplier<CardCriteria> criteria) {
+        // sorting uses db search, so it can be used to compare results
+        List<String> need = CardRepository.instance.findCards(criteria.get().setOrderBy("cardNumberAsInt"))
+                .stream()
+                .map(this::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+        List<String> found = CardRepository.instance.findCards(criteria.get())
+                .stream()
+                .map(this::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+        if (criteria.get().getCount() == null) {
+            Assert.assertFalse(info + " - must find cards", need.isEmpty());
+            Assert.assertEquals(info, need, found);
+        } else {
+            // db's order is different
+            Assert.assertEquals(info, need.size(), found.size());
+        }
+    }
+
+    private String getKey(CardInfo card) {
+        return card.getSetCode() + " - " + card.getCardNumber() + " - " + card.getName();
+    }
+}
@@ -0,0 +1,56 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI uses game state's hashes to find same states, so it must be same for game copies and must be changed by game changes
+ */
+public class GameStateHashTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SameForCopiesAndChangedByActions() {
+        addCard(Zone.HAND, playerA, "Silvercoat Lion", 2); // {1}{W}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears");
+
+        List<Long> hashes = new ArrayList<>();
+        runCode("before cast", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertSameForCopy(info, game);
+            hashes.add(game.getState().getHash(true, game));
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Silvercoat Lion");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("after cast", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertSameForCopy(info, game);
+            hashes.add(game.getState().getHash(true, game));
+
+            // hidden cards in hand
+            Assert.assertNotEquals(info, game.getState().getHash(game, playerA.getId()), game.getState().getHash(game, playerB.getId()));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        Assert.assertEquals(2, hashes.size());
+        Assert.assertNotEquals("cast must change state", hashes.get(0), hashes.get(1));
+    }
+
+    private void assertSameForCopy(String info, Game game) {
+        Game copy = game.copy();
+        Assert.assertEquals(info, game.getState().getHash(true), copy.getState().getHash(true));
+        Assert.assertEquals(info, game.getState().getHash(false), copy.getState().getHash(false));
+        Assert.assertEquals(info, game.getState().getHash(true, game), copy.getState().getHash(true, copy));
+        Assert.assertEquals(info, game.getState().getHash(game, playerA.getId()), copy.getState().getHash(copy, playerA.getId()));
+        Assert.assertNotEquals(info, game.getState().getHash(true), game.getState().getHash(false));
+    }
+}
@@ -11,6 +11,8 @@ import mage.game.TwoPlayerDuel;
 import mage.game.mulligan.MulliganType;
 import mage.player.human.HumanPlayer;
 import mage.players.Player;
+import mage.util.IdSource;
+import mage.util.IdUtil;
 import mage.util.RandomUtil;
 import org.junit.Assert;
 import org.junit.Ignore;
@@ -22,7 +24,9 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -55,6 +59,62 @@ public class RandomTest {
         Assert.assertNotEquals("different seed must have different random values", listSameA.stream().mapToInt(Integer::intValue).sum(), listDifferent.stream().mapToInt(Integer::intValue).sum());
     }
 
+    @Test
+    public void test_SeedAndSameIds() {
+        RandomUtil.setSeed(123);
+        IdSource sourceSameA = IdSource.createForGame(1);
+        RandomUtil.setSeed(321);
+        IdSource sourceDifferent = IdSource.createForGame(1);
+        RandomUtil.setSeed(123);
+        IdSource sourceSameB = IdSource.createForGame(1);
+
+        for (int i = 1; i <= 1000; i++) {
+            UUID idA = sourceSameA.nextId();
+            Assert.assertEquals("same seed must have same ids", idA, sourceSameB.nextId());
+            Assert.assertNotEquals("different seed must have different ids", idA, sourceDifferent.nextId());
+        }
+    }
+
+    @Test
+    public void test_SameSeedAndDifferentIds() {
+        // different games with same seed must not give same ids
+        RandomUtil.setSeed(123);
+        IdSource sourceA = IdSource.createForGame(1);
+        RandomUtil.setSeed(123);
+        IdSource sourceB = IdSource.createForGame(2);
+        IdSource sourceC = new IdSource();
+        IdSource sourceD = new IdSource();
+
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 1; i <= 1000; i++) {
+            UUID idA = sourceA.nextId();
+            UUID idB = sourceB.nextId();
+            Assert.assertEquals("must be random UUID version", 4, idA.version());
+            Assert.assertEquals("must have same ids sequence", idA.getLeastSignificantBits(), idB.getLeastSignificantBits());
+            ids.add(idA);
+            ids.add(idB);
+            ids.add(sourceC.nextId());
+            ids.add(sourceD.nextId());
+        }
+        Assert.assertEquals("ids must be unique", 4000, ids.size());
+    }
+
+    @Test
+    public void test_IdSourceRestoredAfterGame() {
+        IdSource gameSource = new IdSource();
+        UUID threadId = IdUtil.newId();
+
+        IdSource prevSource = IdUtil.bindSource(gameSource);
+        try {
+            Assert.assertNull("thread must be without game source", prevSource);
+            Assert.assertNotEquals("must use game source", threadId.getMostSignificantBits(), IdUtil.newId().getMostSignificantBits());
+        } finally {
+            IdUtil.restoreSource(prevSource);
+        }
+
+        Assert.assertEquals("must use thread source after game", threadId.getMostSignificantBits(), IdUtil.newId().getMostSignificantBits());
+    }
+
     @Test
     public void test_SeedAndSameRandomDecks() {
         RandomUtil.setSeed(123);
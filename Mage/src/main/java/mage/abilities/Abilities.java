@@ -265,6 +265,8 @@ public interface Abilities<T extends Ability> extends List<T>, Serializable {
 
     String getValue();
 
+    long getHash(); // AI related code to find changes in game state, same data as getValue
+
     @Deprecated
         // use permanent.removeAbility instead
     boolean remove(Object o);
@@ -9,6 +9,7 @@ import mage.abilities.mana.ManaAbility;
 import mage.constants.Zone;
 import mage.game.Game;
 import mage.util.CardUtil;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
 
@@ -320,4 +321,13 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         }
         return sb.toString();
     }
+
+    @Override
+    public long getHash() {
+        long hash = 0;
+        for (T ability : this) {
+            hash = StateHashUtil.addUnordered(hash, StateHashUtil.add(0, ability));
+        }
+        return hash;
+    }
 }
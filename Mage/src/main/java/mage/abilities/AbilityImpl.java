@@ -47,6 +47,7 @@ import mage.target.targetadjustment.GenericTargetAdjuster;
 import mage.target.targetadjustment.TargetAdjuster;
 import mage.util.CardUtil;
 import mage.util.GameLog;
+import mage.util.IdUtil;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
@@ -99,7 +100,7 @@ public abstract class AbilityImpl implements Ability {
     private Map<String, Object> costsTagMap = null;
 
     protected AbilityImpl(AbilityType abilityType, Zone zone) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.originalId = id;
         this.abilityType = abilityType;
         this.zone = zone;
@@ -155,7 +156,7 @@ public abstract class AbilityImpl implements Ability {
     @Override
     public void newId() {
         if (!(this instanceof MageSingleton)) {
-            this.id = UUID.randomUUID();
+            this.id = IdUtil.newId();
         }
         getEffects().newId();
 
@@ -166,7 +167,7 @@ public abstract class AbilityImpl implements Ability {
 
     @Override
     public void newOriginalId() {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.originalId = id;
         getEffects().newId();
     }
@@ -4,10 +4,12 @@ import mage.MageObject;
 import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEventTypeIndex;
 import mage.game.events.NumberOfTriggersEvent;
 import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
 import mage.util.CardUtil;
+import mage.util.CopyOnWriteMap;
 import mage.util.Copyable;
 import org.apache.log4j.Logger;
 
@@ -21,7 +23,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     private static final Logger logger = Logger.getLogger(TriggeredAbilities.class);
 
-    private final Map<String, List<UUID>> sources = new HashMap<>();
+    private final CopyOnWriteMap<String, List<UUID>> sources; // cheap copy, lists are never changed after add
 
     // data integrity check for triggers
     // reason: game engine can generate additional events and triggers while checking another one,
@@ -40,7 +42,17 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     private List<TriggeredAbility> processingNeed = new ArrayList<>();
     private List<TriggeredAbility> processingDone = new ArrayList<>();
 
+    // events dispatch optimization: triggers by event types, must be reset on any triggers list changes
+    private transient GameEventTypeIndex<TriggeredAbility> eventTypeIndex = null;
+    private static final ClassValue<Boolean> eventTypesActual = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return GameEventTypeIndex.isTypesDeclarationActual(type, "getCheckEventTypes", "checkEventType", GameEvent.class, Game.class);
+        }
+    };
+
     public TriggeredAbilities() {
+        this.sources = new CopyOnWriteMap<>();
     }
 
     protected TriggeredAbilities(final TriggeredAbilities abilities) {
@@ -49,9 +61,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         for (Map.Entry<String, TriggeredAbility> entry : abilities.entrySet()) {
             this.put(entry.getKey(), entry.getValue().copy());
         }
-        for (Map.Entry<String, List<UUID>> entry : abilities.sources.entrySet()) {
-            sources.put(entry.getKey(), entry.getValue());
-        }
+        this.sources = abilities.sources.copy();
 
         this.enableIntegrityChecks = abilities.enableIntegrityChecks;
         this.enableIntegrityCheck1_MustKeepSameTriggersOrder = abilities.enableIntegrityCheck1_MustKeepSameTriggersOrder;
@@ -103,7 +113,10 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         processingStart(event);
         boolean needErrorChecksOnEnd = true;
         // must keep real object refs (not copies), cause check trigger code can change trigger's and effect's data like targets
-        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(this.values());
+        // index is a snapshot, so new triggers from current event will be checked on next events only
+        // integrity checks require all triggers to be processed
+        GameEventTypeIndex<TriggeredAbility> index = getEventTypeIndex();
+        List<TriggeredAbility> currentTriggers = this.enableIntegrityChecks ? index.getAll() : index.get(event.getType());
         try {
             for (TriggeredAbility ability : currentTriggers) {
                 if (ability.checkEventType(event, game)) {
@@ -120,6 +133,47 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         }
     }
 
+    private GameEventTypeIndex<TriggeredAbility> getEventTypeIndex() {
+        if (this.eventTypeIndex == null) {
+            this.eventTypeIndex = new GameEventTypeIndex<>(this.values(), TriggeredAbilities::getActualCheckEventTypes);
+        }
+        return this.eventTypeIndex;
+    }
+
+    private static Set<GameEvent.EventType> getActualCheckEventTypes(TriggeredAbility ability) {
+        Set<GameEvent.EventType> types = ability.getCheckEventTypes();
+        if (types == null || !eventTypesActual.get(ability.getClass())) {
+            return null;
+        }
+        return types;
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility value) {
+        this.eventTypeIndex = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        if (containsKey(key)) {
+            this.eventTypeIndex = null;
+        }
+        return super.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends TriggeredAbility> m) {
+        this.eventTypeIndex = null;
+        super.putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        this.eventTypeIndex = null;
+        super.clear();
+    }
+
     private void makeSureNotProcessing(GameEvent newEvent) {
         if (!this.enableIntegrityChecks) {
             return;
@@ -318,11 +372,13 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        if (keySet().removeIf(key -> key.endsWith(sourceId.toString()))) {
+            this.eventTypeIndex = null;
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        sources.forEach((key, sourceIds) -> this.remove(key));
         sources.clear();
     }
 
@@ -332,9 +388,12 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
+        boolean removed = entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
                 && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
                 && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+        if (removed) {
+            this.eventTypeIndex = null;
+        }
     }
 
     @Override
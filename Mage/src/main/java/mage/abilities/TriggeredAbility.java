@@ -6,6 +6,7 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -22,6 +23,16 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Optimization: all event types that can be accepted by checkEventType, so triggers
+     * dispatch can skip unrelated events. Return null if it depends on non type data.
+     * <p>
+     * Warning, it will be ignored if child class overrides checkEventType without new types list
+     */
+    default Set<GameEvent.EventType> getCheckEventTypes() {
+        return null;
+    }
+
     /**
      * This method checks if the event has to trigger the ability,
      * and if it does trigger, may set targets and other values in associated effects
@@ -54,7 +54,7 @@ public class ContinuousEffects implements Serializable {
     private final ApplyStatusEffect applyStatus;
     private final AuraReplacementEffect auraReplacementEffect;
 
-    private final Map<String, ContinuousEffectsList<ContinuousEffect>> lastEffectsListOnLayer = new HashMap<>(); // helps to find out new effect timestamps on layers
+    private final Map<String, Set<UUID>> lastEffectsListOnLayer = new HashMap<>(); // helps to find out new effect timestamps on layers (effect ids)
 
     public ContinuousEffects() {
         applyStatus = new ApplyStatusEffect();
@@ -78,8 +78,8 @@ public class ContinuousEffects implements Serializable {
 
         costModificationEffects = effect.costModificationEffects.copy();
         spliceCardEffects = effect.spliceCardEffects.copy();
-        for (Map.Entry<String, ContinuousEffectsList<ContinuousEffect>> entry : effect.lastEffectsListOnLayer.entrySet()) {
-            lastEffectsListOnLayer.put(entry.getKey(), entry.getValue().copy());
+        for (Map.Entry<String, Set<UUID>> entry : effect.lastEffectsListOnLayer.entrySet()) {
+            lastEffectsListOnLayer.put(entry.getKey(), new HashSet<>(entry.getValue()));
         }
         collectAllEffects();
         order = effect.order;
@@ -237,18 +237,23 @@ public class ContinuousEffects implements Serializable {
      * @param layerEffects
      */
     private synchronized void updateTimestamps(String timestampGroupName, List<ContinuousEffect> layerEffects) {
-        if (!lastEffectsListOnLayer.containsKey(timestampGroupName)) {
-            lastEffectsListOnLayer.put(timestampGroupName, new ContinuousEffectsList<>());
-        }
-        ContinuousEffectsList<ContinuousEffect> prevs = lastEffectsListOnLayer.get(timestampGroupName);
+        // effects compared by ids (same as copied effects), so use set instead list's contains (it was O(n^2) for each call)
+        Set<UUID> prevs = lastEffectsListOnLayer.computeIfAbsent(timestampGroupName, k -> new HashSet<>());
+        boolean hasNewEffects = false;
         for (ContinuousEffect continuousEffect : layerEffects) {
             // check if it's new, then set order
-            if (!prevs.contains(continuousEffect)) {
+            if (!prevs.contains(continuousEffect.getId())) {
                 setOrder(continuousEffect);
+                hasNewEffects = true;
+            }
+        }
+        // most calls return same effects as before, so history can be kept as is
+        if (hasNewEffects || prevs.size() != layerEffects.size()) {
+            prevs.clear();
+            for (ContinuousEffect continuousEffect : layerEffects) {
+                prevs.add(continuousEffect.getId());
             }
         }
-        prevs.clear();
-        prevs.addAll(layerEffects);
     }
 
     public void setOrder(ContinuousEffect effect) {
@@ -256,9 +261,13 @@ public class ContinuousEffects implements Serializable {
     }
 
     private List<ContinuousEffect> filterLayeredEffects(List<ContinuousEffect> effects, Layer layer) {
-        return effects.stream()
-                .filter(effect -> effect.hasLayer(layer))
-                .collect(Collectors.toList());
+        List<ContinuousEffect> res = new ArrayList<>(effects.size());
+        for (ContinuousEffect effect : effects) {
+            if (effect.hasLayer(layer)) {
+                res.add(effect);
+            }
+        }
+        return res;
     }
 
     public Map<RequirementEffect, Set<Ability>> getApplicableRequirementEffects(Permanent permanent, boolean playerRelated, Game game) {
@@ -6,6 +6,7 @@ import mage.constants.EffectType;
 import mage.constants.Outcome;
 import mage.target.targetpointer.FirstTargetPointer;
 import mage.target.targetpointer.TargetPointer;
+import mage.util.IdUtil;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,7 +30,7 @@ public abstract class EffectImpl implements Effect {
     protected String concatPrefix = ""; // combines multiple effects in text rule
 
     public EffectImpl(Outcome outcome) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.outcome = outcome;
 
         initNewTargetPointer();
@@ -113,7 +114,7 @@ public abstract class EffectImpl implements Effect {
     @Override
     public void newId() {
         if (!(this instanceof MageSingleton)) {
-            this.id = UUID.randomUUID();
+            this.id = IdUtil.newId();
         }
     }
 
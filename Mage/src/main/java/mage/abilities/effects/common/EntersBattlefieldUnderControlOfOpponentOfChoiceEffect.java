@@ -52,7 +52,7 @@ public class EntersBattlefieldUnderControlOfOpponentOfChoiceEffect extends OneSh
         Permanent permanent = game.getPermanentEntering(source.getSourceId());
         if (permanent != null) {
             permanent.setOriginalControllerId(opponent.getId()); // permanent was controlled by this player since the existance of this object so original controller has to be set to the first controller
-            permanent.setControllerId(opponent.getId()); // neccessary to set already here because spell caster never controlled the permanent (important for rule 800.4a)
+            permanent.setControllerId(opponent.getId(), game); // neccessary to set already here because spell caster never controlled the permanent (important for rule 800.4a)
             game.informPlayers(permanent.getLogName() + " enters the battlefield under the control of " + opponent.getLogName());
         }
         ContinuousEffect continuousEffect = new GainControlTargetEffect(
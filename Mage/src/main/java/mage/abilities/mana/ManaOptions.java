@@ -63,6 +63,9 @@ public class ManaOptions extends LinkedHashSet<Mana> {
             //perform a union of all existing options and the new options
             List<Mana> copy = new ArrayList<>(this);
             this.clear();
+            // same as this, but with packed values for fast compare (big boards can give thousands of variations)
+            List<Mana> existing = new ArrayList<>();
+            long[] existingPacked = new long[copy.size()];
             for (ActivatedManaAbilityImpl ability : abilities) {
                 for (Mana netMana : ability.getNetMana(game)) {
                     checkManaReplacementAndTriggeredMana(ability, game, netMana);
@@ -72,7 +75,17 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(triggeredManaVariation);
-                            for (Mana existingMana : this) {
+                            long newPacked = PackedMana.pack(newMana);
+                            for (int i = 0; i < existing.size(); i++) {
+                                Mana existingMana = existing.get(i);
+                                if (newPacked != PackedMana.NOT_PACKED && existingPacked[i] != PackedMana.NOT_PACKED) {
+                                    if (newPacked == existingPacked[i]) {
+                                        continue SkipAddMana;
+                                    }
+                                    if (!PackedMana.isComparable(newPacked, existingPacked[i])) {
+                                        continue;
+                                    }
+                                }
                                 if (existingMana.equalManaValue(newMana)) {
                                     continue SkipAddMana;
                                 }
@@ -80,10 +93,17 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                                 if (moreValuable != null) {
                                     // only keep the more valuable mana
                                     existingMana.setToMana(moreValuable);
+                                    existingPacked[i] = PackedMana.pack(existingMana);
                                     continue SkipAddMana;
                                 }
                             }
-                            this.add(newMana);
+                            if (this.add(newMana)) {
+                                if (existing.size() == existingPacked.length) {
+                                    existingPacked = Arrays.copyOf(existingPacked, existingPacked.length * 2 + 1);
+                                }
+                                existingPacked[existing.size()] = newPacked;
+                                existing.add(newMana);
+                            }
                         }
                     }
 
@@ -535,42 +555,71 @@ public class ManaOptions extends LinkedHashSet<Mana> {
     /**
      * Remove fully included variations.
      * E.g. If both {R} and {R}{W} are in this, then {R} will be removed.
+     * <p>
+     * Keeps the order of remaining variations.
      */
     public void removeFullyIncludedVariations() {
+        // more valuable mana goes first (see Mana.getMoreValuableMana), so any comparable mana
+        // from already kept variations includes the current one
         List<Mana> that = new ArrayList<>(this);
-        Set<String> list = new HashSet<>();
-
-        for (int i = this.size() - 1; i >= 0; i--) {
-            String s;
-            if (that.get(i) instanceof ConditionalMana) {
-                s = that.get(i).toString() + ((ConditionalMana) that.get(i)).getConditionString();
-            } else {
-                s = that.get(i).toString();
+        List<Integer> sorted = new ArrayList<>(that.size());
+        for (int i = 0; i < that.size(); i++) {
+            sorted.add(i);
+        }
+        sorted.sort(Comparator
+                .comparingInt((Integer i) -> that.get(i).countColored() + that.get(i).getColorless())
+                .thenComparingInt(i -> that.get(i).getAny())
+                .thenComparingInt(i -> that.get(i).getGeneric())
+                .reversed());
+
+        // big boards can give thousands of variations, so plain mana compares by packed values
+        List<Mana> keptPlain = new ArrayList<>();
+        long[] keptPacked = new long[that.size()];
+        List<Mana> keptOther = new ArrayList<>();
+        boolean[] kept = new boolean[that.size()];
+        for (int i : sorted) {
+            Mana mana = that.get(i);
+            long packed = PackedMana.pack(mana);
+            if (isIncluded(mana, packed, keptPlain, keptPacked, keptOther)) {
+                continue;
             }
-            if (s.isEmpty()) {
-                this.remove(i);
-            } else if (list.contains(s)) {
-                // remove duplicated
-                this.remove(i);
+            if (packed != PackedMana.NOT_PACKED) {
+                keptPacked[keptPlain.size()] = packed;
+                keptPlain.add(mana);
             } else {
-                list.add(s);
+                keptOther.add(mana);
             }
+            kept[i] = true;
         }
 
-        // Remove fully included variations
-        for (int i = this.size() - 1; i >= 0; i--) {
-            for (int ii = 0; ii < i; ii++) {
-                Mana moreValuable = Mana.getMoreValuableMana(that.get(i), that.get(ii));
-                if (moreValuable != null) {
-                    that.get(ii).setToMana(moreValuable);
-                    that.remove(i);
-                    break;
-                }
+        this.clear();
+        for (int i = 0; i < that.size(); i++) {
+            if (kept[i]) {
+                this.add(that.get(i));
             }
         }
+    }
 
-        this.clear();
-        this.addAll(that);
+    private static boolean isIncluded(Mana mana, long packed, List<Mana> keptPlain, long[] keptPacked, List<Mana> keptOther) {
+        if (packed != PackedMana.NOT_PACKED) {
+            for (int i = 0; i < keptPlain.size(); i++) {
+                if (PackedMana.isComparable(packed, keptPacked[i])) {
+                    return true;
+                }
+            }
+        } else {
+            for (Mana keptMana : keptPlain) {
+                if (Mana.getMoreValuableMana(mana, keptMana) != null) {
+                    return true;
+                }
+            }
+        }
+        for (Mana keptMana : keptOther) {
+            if (Mana.getMoreValuableMana(mana, keptMana) != null) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -640,6 +689,123 @@ public class ManaOptions extends LinkedHashSet<Mana> {
         }
         return null; // Not sure how we'd ever get here, but leave just in case since IDE complains.
     }
+
+    /**
+     * Plain mana packed to long (8 bits per mana type) for fast compare,
+     * same logic as {@link Mana#getMoreValuableMana(Mana, Mana)}
+     */
+    private static final class PackedMana {
+
+        static final long NOT_PACKED = -1;
+
+        private static final int MAX_AMOUNT = 0x7F;
+
+        // free high bit of each type for compare by subtract
+        private static final long GUARD_ALL = 0x8080808080808080L;
+        private static final long GUARD_WITHOUT_GENERIC_AND_ANY = 0x0080008080808080L;
+
+        private static final int WHITE = 0;
+        private static final int BLUE = 8;
+        private static final int BLACK = 16;
+        private static final int RED = 24;
+        private static final int GREEN = 32;
+        private static final int GENERIC = 40;
+        private static final int COLORLESS = 48;
+        private static final int ANY = 56;
+
+        /**
+         * @return packed mana or NOT_PACKED for unsupported mana (conditional, flagged, too big)
+         */
+        static long pack(Mana mana) {
+            if (mana.getClass() != Mana.class || mana.getFlag()) {
+                return NOT_PACKED;
+            }
+            int[] amounts = {mana.getWhite(), mana.getBlue(), mana.getBlack(), mana.getRed(), mana.getGreen(),
+                    mana.getGeneric(), mana.getColorless(), mana.getAny()};
+            long res = 0;
+            for (int i = 0; i < amounts.length; i++) {
+                if (amounts[i] < 0 || amounts[i] > MAX_AMOUNT) {
+                    return NOT_PACKED;
+                }
+                res |= (long) amounts[i] << (i * 8);
+            }
+            return res;
+        }
+
+        private static int get(long mana, int type) {
+            return (int) (mana >>> type) & 0xFF;
+        }
+
+        private static int countColored(long mana) {
+            return get(mana, WHITE) + get(mana, BLUE) + get(mana, BLACK) + get(mana, RED) + get(mana, GREEN) + get(mana, ANY);
+        }
+
+        /**
+         * Fast version of getMoreValuable(mana1, mana2) != 0
+         */
+        static boolean isComparable(long mana1, long mana2) {
+            if (mana1 == mana2) {
+                return false;
+            }
+            if (get(mana1, ANY) == get(mana2, ANY)) {
+                // without any mana difference it's comparable only if one mana has same or more of each type
+                // (generic ignored)
+                return isGreaterOrEqual(mana1, mana2) || isGreaterOrEqual(mana2, mana1);
+            }
+            return getMoreValuable(mana1, mana2) != 0;
+        }
+
+        private static boolean isGreaterOrEqual(long mana1, long mana2) {
+            // type keeps high bit after subtract only if mana1 has same or more of that type
+            return (((mana1 | GUARD_ALL) - mana2) & GUARD_WITHOUT_GENERIC_AND_ANY) == GUARD_WITHOUT_GENERIC_AND_ANY;
+        }
+
+        /**
+         * @return 1 if mana1 is more valuable, 2 if mana2 is more valuable, 0 if it's same or can't be compared
+         */
+        static int getMoreValuable(long mana1, long mana2) {
+            if (mana1 == mana2) {
+                return 0;
+            }
+
+            int any1 = get(mana1, ANY);
+            int any2 = get(mana2, ANY);
+            int colorless1 = get(mana1, COLORLESS);
+            int colorless2 = get(mana2, COLORLESS);
+            int colored1 = countColored(mana1);
+            int colored2 = countColored(mana2);
+
+            long moreMana;
+            long lessMana;
+            int res;
+            if (any2 > any1
+                    || colorless2 > colorless1
+                    || colored2 > colored1
+                    || (colored2 == colored1
+                    && colorless2 == colorless1
+                    && get(mana2, GENERIC) > get(mana1, GENERIC))) {
+                if (any1 > any2 || colorless1 > colorless2) {
+                    return 0;
+                }
+                moreMana = mana2;
+                lessMana = mana1;
+                res = 2;
+            } else {
+                if (any2 > any1 || colorless2 > colorless1) {
+                    return 0;
+                }
+                moreMana = mana1;
+                lessMana = mana2;
+                res = 1;
+            }
+
+            int anyDiff = get(moreMana, ANY) - get(lessMana, ANY);
+            for (int type = WHITE; type <= GREEN; type += 8) {
+                anyDiff -= Math.max(0, get(lessMana, type) - get(moreMana, type));
+            }
+            return anyDiff < 0 ? 0 : res;
+        }
+    }
 }
 
 /**
@@ -29,9 +29,13 @@ import mage.util.ManaUtil;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class CardImpl extends MageObjectImpl implements Card {
 
@@ -39,6 +43,11 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     private static final Logger logger = Logger.getLogger(CardImpl.class);
 
+    // classes search and constructors reflection are slow for each new card (decks loading, boosters, etc), so cache it
+    private static final Map<String, Class<?>> cardClassesCache = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, MethodHandle> cardFactoriesCache = new ConcurrentHashMap<>();
+    private static final MethodType CARD_FACTORY_TYPE = MethodType.methodType(Card.class, UUID.class, CardSetInfo.class);
+
     protected UUID ownerId;
     protected Rarity rarity;
     protected Class<? extends Card> meldsWithClazz;
@@ -153,17 +162,24 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     }
 
     public static Card createCard(String name, CardSetInfo setInfo) {
-        try {
-            return createCard(Class.forName(name), setInfo);
-        } catch (ClassNotFoundException ex) {
+        Class<?> clazz = cardClassesCache.get(name);
+        if (clazz == null) {
             try {
-                return createCard(PluginClassloaderRegistery.forName(name), setInfo);
-            } catch (ClassNotFoundException ex2) {
-                // ignored
+                clazz = Class.forName(name);
+            } catch (ClassNotFoundException ex) {
+                try {
+                    clazz = PluginClassloaderRegistery.forName(name);
+                } catch (ClassNotFoundException ex2) {
+                    // ignored
+                }
+                if (clazz == null) {
+                    logger.fatal("Error loading card: " + name, ex);
+                    return null;
+                }
             }
-            logger.fatal("Error loading card: " + name, ex);
-            return null;
+            cardClassesCache.put(name, clazz);
         }
+        return createCard(clazz, setInfo);
     }
 
     public static Card createCard(Class<?> clazz, CardSetInfo setInfo) {
@@ -179,11 +195,11 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
                 card = (Card) con.newInstance(new Object[]{null});
             } else {
                 setCode = setInfo.getExpansionSetCode();
-                Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
-                card = (Card) con.newInstance(null, setInfo);
+                card = (Card) getCardFactory(clazz).invokeExact((UUID) null, setInfo);
             }
             return card;
-        } catch (Exception e) {
+        } catch (Throwable e) {
+            // factory calls constructor directly, so it can throw any card's errors like reflection
             String err = "Error loading card: " + clazz.getCanonicalName() + " (" + setCode + ")";
             if (errorList != null) {
                 errorList.add(err);
@@ -199,6 +215,17 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         }
     }
 
+    private static MethodHandle getCardFactory(Class<?> clazz) throws NoSuchMethodException, IllegalAccessException {
+        MethodHandle factory = cardFactoriesCache.get(clazz);
+        if (factory == null) {
+            factory = MethodHandles.publicLookup()
+                    .findConstructor(clazz, MethodType.methodType(void.class, UUID.class, CardSetInfo.class))
+                    .asType(CARD_FACTORY_TYPE);
+            cardFactoriesCache.put(clazz, factory);
+        }
+        return factory;
+    }
+
     @Override
     public UUID getOwnerId() {
         return ownerId;
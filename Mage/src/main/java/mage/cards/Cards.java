@@ -51,6 +51,8 @@ public interface Cards extends Set<UUID>, Serializable, Copyable<Cards> {
 
     String getValue(Game game); // AI related code to find changes in game state
 
+    long getHash(Game game); // AI related code to find changes in game state, same data as getValue
+
     /**
      * Get a collection view of the unique non-null cards in this set.
      *
@@ -7,6 +7,7 @@ import mage.constants.Zone;
 import mage.filter.FilterCard;
 import mage.game.Game;
 import mage.util.RandomUtil;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 
 import java.io.Serializable;
@@ -166,6 +167,18 @@ public class CardsImpl extends LinkedHashSet<UUID> implements Cards, Serializabl
         return sb.toString();
     }
 
+    @Override
+    public long getHash(Game game) {
+        long hash = 0;
+        for (UUID cardId : this) {
+            Card card = game.getCard(cardId);
+            if (card != null) {
+                hash = StateHashUtil.addUnordered(hash, StateHashUtil.add(0, card.getName()));
+            }
+        }
+        return hash;
+    }
+
     @Override
     public void addAllCards(Collection<? extends Card> cards) {
         if (cards != null) {
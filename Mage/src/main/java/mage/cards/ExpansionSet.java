@@ -16,6 +16,7 @@ import org.apache.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -208,10 +209,12 @@ public abstract class ExpansionSet implements Serializable {
 
     protected int maxCardNumberInBooster; // used to omit cards with collector numbers beyond the regular cards in a set for boosters
 
-    protected final EnumMap<Rarity, List<CardInfo>> savedCards = new EnumMap<>(Rarity.class);
-    protected final EnumMap<Rarity, List<CardInfo>> savedSpecialCards = new EnumMap<>(Rarity.class);
-    protected Map<String, List<CardInfo>> savedReprints = null;
+    // booster pools are immutable after first usage, so tourney threads can share it without locks
+    protected final Map<Rarity, List<CardInfo>> savedCards = new ConcurrentHashMap<>();
+    protected final Map<Rarity, List<CardInfo>> savedSpecialCards = new ConcurrentHashMap<>();
+    protected volatile Map<String, List<CardInfo>> savedReprints = null;
     protected final Map<String, CardInfo> inBoosterMap = new HashMap<>();
+    private volatile boolean inBoosterMapGenerated = false;
 
     protected ExpansionSet(String name, String code, Date releaseDate, SetType setType) {
         this.name = name;
@@ -294,7 +297,12 @@ public abstract class ExpansionSet implements Serializable {
             return;
         }
 
-        CardInfo cardInfo = cards.remove(RandomUtil.nextInt(cards.size()));
+        // remove without elements shift (cards order doesn't matter for random picks)
+        int index = RandomUtil.nextInt(cards.size());
+        CardInfo cardInfo = cards.get(index);
+        cards.set(index, cards.get(cards.size() - 1));
+        cards.remove(cards.size() - 1);
+
         Card card = cardInfo.createCard();
         if (card == null) {
             // card with error
@@ -327,17 +335,20 @@ public abstract class ExpansionSet implements Serializable {
     }
 
     private List<Card> createBoosterUsingCollator(BoosterCollator collator) {
-        synchronized (inBoosterMap) {
-            if (inBoosterMap.isEmpty()) {
-                generateBoosterMap();
+        if (!inBoosterMapGenerated) {
+            synchronized (inBoosterMap) {
+                if (inBoosterMap.isEmpty()) {
+                    generateBoosterMap();
+                }
+                inBoosterMapGenerated = !inBoosterMap.isEmpty();
             }
         }
-        return collator
-                .makeBooster()
-                .stream()
-                .map(inBoosterMap::get)
-                .map(CardInfo::createCard)
-                .collect(Collectors.toList());
+        List<String> cardNumbers = collator.makeBooster();
+        List<Card> booster = new ArrayList<>(cardNumbers.size());
+        for (String cardNumber : cardNumbers) {
+            booster.add(inBoosterMap.get(cardNumber).createCard());
+        }
+        return booster;
     }
 
     protected void generateBoosterMap() {
@@ -603,7 +614,7 @@ public abstract class ExpansionSet implements Serializable {
 
         // generate possible reprints
         if (this.savedReprints == null) {
-            this.savedReprints = new HashMap<>();
+            Map<String, List<CardInfo>> newReprints = new HashMap<>();
             List<String> needSets = new ArrayList<>();
             needSets.add(this.code);
             if (this.parentSet != null) {
@@ -626,15 +637,18 @@ public abstract class ExpansionSet implements Serializable {
                 );
             }
             cardInfos.forEach(card -> {
-                this.savedReprints.putIfAbsent(card.getName(), new ArrayList<>());
-                this.savedReprints.get(card.getName()).add(card);
+                newReprints.putIfAbsent(card.getName(), new ArrayList<>());
+                newReprints.get(card.getName()).add(card);
             });
+            // publish after fill, so other threads can't see partial reprints
+            this.savedReprints = newReprints;
         }
+        Map<String, List<CardInfo>> reprintsByName = this.savedReprints;
 
         // replace normal cards by random reprints
         List<Card> finalBooster = new ArrayList<>();
         booster.forEach(card -> {
-            List<CardInfo> reprints = this.savedReprints.getOrDefault(card.getName(), null);
+            List<CardInfo> reprints = reprintsByName.getOrDefault(card.getName(), null);
             if (reprints != null && reprints.size() > 1) {
                 Card newCard = reprints.get(RandomUtil.nextInt(reprints.size())).createCard();
                 if (newCard != null) {
@@ -648,21 +662,28 @@ public abstract class ExpansionSet implements Serializable {
         return finalBooster;
     }
 
-    public final synchronized List<CardInfo> getCardsByRarity(Rarity rarity) {
+    public final List<CardInfo> getCardsByRarity(Rarity rarity) {
         List<CardInfo> savedCardInfos = savedCards.get(rarity);
         if (savedCardInfos == null) {
-            savedCardInfos = removeReprints(findCardsByRarity(rarity));
-            savedCards.put(rarity, savedCardInfos);
+            // it's same for all threads, so possible parallel calculation on first usage is ok
+            savedCardInfos = Collections.unmodifiableList(removeReprints(findCardsByRarity(rarity)));
+            List<CardInfo> oldCardInfos = savedCards.putIfAbsent(rarity, savedCardInfos);
+            if (oldCardInfos != null) {
+                savedCardInfos = oldCardInfos;
+            }
         }
         // Return a copy of the saved cards information, as not to let modify the original.
         return new ArrayList<>(savedCardInfos);
     }
 
-    public final synchronized List<CardInfo> getSpecialCardsByRarity(Rarity rarity) {
+    public final List<CardInfo> getSpecialCardsByRarity(Rarity rarity) {
         List<CardInfo> savedCardInfos = savedSpecialCards.get(rarity);
         if (savedCardInfos == null) {
-            savedCardInfos = removeReprints(findSpecialCardsByRarity(rarity));
-            savedSpecialCards.put(rarity, savedCardInfos);
+            savedCardInfos = Collections.unmodifiableList(removeReprints(findSpecialCardsByRarity(rarity)));
+            List<CardInfo> oldCardInfos = savedSpecialCards.putIfAbsent(rarity, savedCardInfos);
+            if (oldCardInfos != null) {
+                savedCardInfos = oldCardInfos;
+            }
         }
         // Return a copy of the saved cards information, as not to let modify the original.
         return new ArrayList<>(savedCardInfos);
@@ -0,0 +1,310 @@
+package mage.cards.repository;
+
+import mage.constants.CardType;
+import mage.constants.Rarity;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Cards database: immutable in-memory copy of all cards with indexes for fast searching
+ * <p>
+ * Cards db changes on new cards scan only, so searches can work without db queries and locks. Results must be
+ * same as db's results: text compares ignore char case (db works in IGNORECASE mode) and cards keep db's order.
+ */
+final class CardCatalog {
+
+    static final CardCatalog EMPTY = new CardCatalog(Collections.emptyList());
+
+    private final CardInfo[] cards; // in db order, indexes keep positions of the cards
+    private final Map<String, int[]> byName = new HashMap<>();
+    private final Map<String, int[]> byOtherName = new HashMap<>(); // flip, second side, spell option names
+    private final Map<String, int[]> bySetCodeAndNumber = new HashMap<>();
+    private final Map<String, int[]> bySetCode = new HashMap<>();
+    private final Map<String, int[]> byClassName = new HashMap<>();
+    private final Map<Rarity, int[]> byRarity = new EnumMap<>(Rarity.class);
+    private final Map<CardType, int[]> byType = new EnumMap<>(CardType.class);
+
+    // names lists like all cards, lands, etc
+    private final Map<String, Set<String>> namesCache = new ConcurrentHashMap<>();
+
+    CardCatalog(List<CardInfo> cardsInfo) {
+        this.cards = cardsInfo.toArray(new CardInfo[0]);
+
+        Map<String, List<Integer>> names = new HashMap<>();
+        Map<String, List<Integer>> otherNames = new HashMap<>();
+        Map<String, List<Integer>> setCodesAndNumbers = new HashMap<>();
+        Map<String, List<Integer>> setCodes = new HashMap<>();
+        Map<String, List<Integer>> classNames = new HashMap<>();
+        Map<Rarity, List<Integer>> rarities = new EnumMap<>(Rarity.class);
+        Map<CardType, List<Integer>> types = new EnumMap<>(CardType.class);
+        Map<String, String> sameStrings = new HashMap<>();
+        for (int i = 0; i < cards.length; i++) {
+            CardInfo card = cards[i];
+            shareSameStrings(card, sameStrings);
+
+            addToIndex(names, toKey(card.name), i);
+            Set<String> cardOtherNames = new HashSet<>();
+            for (String otherName : Arrays.asList(card.flipCardName, card.secondSideName,
+                    card.spellOptionCardName, card.doubleFacedSecondSideName)) {
+                if (otherName != null && cardOtherNames.add(toKey(otherName))) {
+                    addToIndex(otherNames, toKey(otherName), i);
+                }
+            }
+            addToIndex(setCodesAndNumbers, toSetCodeAndNumberKey(card.setCode, card.cardNumber), i);
+            addToIndex(setCodes, toKey(card.setCode), i);
+            addToIndex(classNames, toKey(card.className), i);
+            if (card.rarity != null) {
+                addToIndex(rarities, card.rarity, i);
+            }
+            for (CardType type : CardType.values()) {
+                if (like(card.types, type.name())) {
+                    addToIndex(types, type, i);
+                }
+            }
+        }
+        fillIndex(byName, names);
+        fillIndex(byOtherName, otherNames);
+        fillIndex(bySetCodeAndNumber, setCodesAndNumbers);
+        fillIndex(bySetCode, setCodes);
+        fillIndex(byClassName, classNames);
+        fillIndex(byRarity, rarities);
+        fillIndex(byType, types);
+    }
+
+    int size() {
+        return cards.length;
+    }
+
+    List<CardInfo> findByName(String name, long limitByMaxAmount) {
+        return getCards(byName.get(toKey(name)), limitByMaxAmount);
+    }
+
+    List<CardInfo> findByOtherName(String name, long limitByMaxAmount) {
+        return getCards(byOtherName.get(toKey(name)), limitByMaxAmount);
+    }
+
+    List<CardInfo> findBySetCodeAndNumber(String setCode, String cardNumber, long limitByMaxAmount) {
+        return getCards(bySetCodeAndNumber.get(toSetCodeAndNumberKey(setCode, cardNumber)), limitByMaxAmount);
+    }
+
+    List<CardInfo> findByClassName(String className) {
+        return getCards(byClassName.get(toKey(className)), 0);
+    }
+
+    List<CardInfo> findAll(Predicate<CardInfo> filter) {
+        List<CardInfo> res = new ArrayList<>();
+        for (CardInfo card : cards) {
+            if (filter.test(card)) {
+                res.add(card);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Search by optimized criteria (sorting is not supported)
+     */
+    List<CardInfo> findCards(CardCriteria criteria) {
+        // use smallest index from the criteria
+        int[] positions = null;
+        if (criteria.getName() != null) {
+            positions = selectSmallest(positions, byName.get(toKey(criteria.getName())));
+        }
+        if (!criteria.getSetCodes().isEmpty()) {
+            List<int[]> list = new ArrayList<>();
+            for (String setCode : criteria.getSetCodes()) {
+                list.add(bySetCode.get(toKey(setCode)));
+            }
+            positions = selectSmallest(positions, union(list));
+        }
+        if (!criteria.getRarities().isEmpty()) {
+            List<int[]> list = new ArrayList<>();
+            for (Rarity rarity : criteria.getRarities()) {
+                list.add(byRarity.get(rarity));
+            }
+            positions = selectSmallest(positions, union(list));
+        }
+        if (!criteria.getTypes().isEmpty() && criteria.getTypes().size() != 7) {
+            List<int[]> list = new ArrayList<>();
+            for (CardType type : criteria.getTypes()) {
+                list.add(byType.get(type));
+            }
+            positions = selectSmallest(positions, union(list));
+        }
+
+        long skip = criteria.getStart() == null ? 0 : criteria.getStart();
+        long limit = criteria.getCount() == null ? Long.MAX_VALUE : criteria.getCount();
+        List<CardInfo> res = new ArrayList<>();
+        int size = positions == null ? cards.length : positions.length;
+        for (int i = 0; i < size && res.size() < limit; i++) {
+            CardInfo card = cards[positions == null ? i : positions[i]];
+            if (criteria.match(card)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    res.add(card);
+                }
+            }
+        }
+        return res;
+    }
+
+    List<String> getClassNames() {
+        List<String> res = new ArrayList<>(cards.length);
+        for (CardInfo card : cards) {
+            res.add(card.className);
+        }
+        return res;
+    }
+
+    /**
+     * All names of the cards (including second sides), calculates one time only
+     */
+    Set<String> getNames(String cacheKey, Predicate<CardInfo> filter) {
+        return namesCache.computeIfAbsent(cacheKey, k -> {
+            Set<String> names = new TreeSet<>();
+            for (CardInfo card : cards) {
+                if (filter.test(card)) {
+                    addNewNames(card, names);
+                }
+            }
+            return Collections.unmodifiableSet(names);
+        });
+    }
+
+    private static void addNewNames(CardInfo card, Set<String> namesList) {
+        // normal names
+        int result = card.getName().indexOf(" // ");
+        if (result > 0) {
+            namesList.add(card.getName().substring(0, result));
+            namesList.add(card.getName().substring(result + 4));
+        } else {
+            namesList.add(card.getName());
+        }
+
+        // additional names from double side cards
+        if (card.getSecondSideName() != null && !card.getSecondSideName().isEmpty()) {
+            namesList.add(card.getSecondSideName());
+        }
+        if (card.getDoubleFacedSecondSideName() != null && !card.getDoubleFacedSecondSideName().isEmpty()) {
+            namesList.add(card.getDoubleFacedSecondSideName());
+        }
+        if (card.getFlipCardName() != null && !card.getFlipCardName().isEmpty()) {
+            namesList.add(card.getFlipCardName());
+        }
+        if (card.getMeldsToCardName() != null && !card.getMeldsToCardName().isEmpty()) {
+            namesList.add(card.getMeldsToCardName());
+        }
+        if (card.getSpellOptionCardName() != null && !card.getSpellOptionCardName().isEmpty()) {
+            namesList.add(card.getSpellOptionCardName());
+        }
+    }
+
+    /**
+     * Same as db's LIKE '%part%' in IGNORECASE mode
+     */
+    static boolean like(String text, String part) {
+        if (text == null) {
+            return false;
+        }
+        int max = text.length() - part.length();
+        for (int i = 0; i <= max; i++) {
+            if (text.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same as db's NOT LIKE '%part%' in IGNORECASE mode (null values never match)
+     */
+    static boolean notLike(String text, String part) {
+        return text != null && !like(text, part);
+    }
+
+    static boolean equalsIgnoreCase(String text, String value) {
+        return text != null && text.equalsIgnoreCase(value);
+    }
+
+    private List<CardInfo> getCards(int[] positions, long limitByMaxAmount) {
+        if (positions == null) {
+            return new ArrayList<>();
+        }
+        int size = limitByMaxAmount > 0 ? (int) Math.min(positions.length, limitByMaxAmount) : positions.length;
+        List<CardInfo> res = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            res.add(cards[positions[i]]);
+        }
+        return res;
+    }
+
+    private static int[] selectSmallest(int[] current, int[] positions) {
+        if (positions == null) {
+            positions = new int[0];
+        }
+        return current == null || positions.length < current.length ? positions : current;
+    }
+
+    private static int[] union(List<int[]> list) {
+        if (list.size() == 1) {
+            return list.get(0);
+        }
+        return list.stream()
+                .filter(Objects::nonNull)
+                .flatMapToInt(Arrays::stream)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private static String toKey(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String toSetCodeAndNumberKey(String setCode, String cardNumber) {
+        return toKey(setCode) + " - " + toKey(cardNumber);
+    }
+
+    private static <K> void addToIndex(Map<K, List<Integer>> index, K key, int position) {
+        index.computeIfAbsent(key, k -> new ArrayList<>()).add(position);
+    }
+
+    private static <K> void fillIndex(Map<K, int[]> index, Map<K, List<Integer>> source) {
+        for (Map.Entry<K, List<Integer>> entry : source.entrySet()) {
+            index.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    private static void shareSameStrings(CardInfo card, Map<String, String> sameStrings) {
+        // reprints use same texts, so keep only one copy of it in memory
+        card.name = shareSameString(card.name, sameStrings);
+        card.setCode = shareSameString(card.setCode, sameStrings);
+        card.power = shareSameString(card.power, sameStrings);
+        card.toughness = shareSameString(card.toughness, sameStrings);
+        card.startingLoyalty = shareSameString(card.startingLoyalty, sameStrings);
+        card.startingDefense = shareSameString(card.startingDefense, sameStrings);
+        card.types = shareSameString(card.types, sameStrings);
+        card.subtypes = shareSameString(card.subtypes, sameStrings);
+        card.supertypes = shareSameString(card.supertypes, sameStrings);
+        card.manaCosts = shareSameString(card.manaCosts, sameStrings);
+        card.rules = shareSameString(card.rules, sameStrings);
+        card.frameColor = shareSameString(card.frameColor, sameStrings);
+        card.frameStyle = shareSameString(card.frameStyle, sameStrings);
+        card.flipCardName = shareSameString(card.flipCardName, sameStrings);
+        card.secondSideName = shareSameString(card.secondSideName, sameStrings);
+        card.spellOptionCardName = shareSameString(card.spellOptionCardName, sameStrings);
+        card.doubleFacedSecondSideName = shareSameString(card.doubleFacedSecondSideName, sameStrings);
+        card.meldsToCardName = shareSameString(card.meldsToCardName, sameStrings);
+    }
+
+    private static String shareSameString(String text, Map<String, String> sameStrings) {
+        if (text == null) {
+            return null;
+        }
+        String res = sameStrings.putIfAbsent(text, text);
+        return res == null ? text : res;
+    }
+}
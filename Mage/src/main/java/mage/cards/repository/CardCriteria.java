@@ -249,7 +249,7 @@ public class CardCriteria {
         }
 
         if (modalDoubleFaced != null) {
-            where.eq("modalDoubleFacedCard", modalDoubleFaced);
+            where.eq("doubleFacedCard", modalDoubleFaced);
             clausesCount++;
         }
 
@@ -370,7 +370,86 @@ public class CardCriteria {
         }
     }
 
-    private CardCriteria optimize() {
+    /**
+     * In-memory version of the query (must be same as buildQuery), call optimize before
+     */
+    boolean match(CardInfo card) {
+        if (nightCard != null && card.nightCard != nightCard) {
+            return false;
+        }
+        if (card.splitCardHalf) {
+            return false;
+        }
+        if (nameContains != null && !CardCatalog.like(card.name, nameContains)) {
+            return false;
+        }
+        if (name != null && !CardCatalog.equalsIgnoreCase(card.name, name)) {
+            return false;
+        }
+        if (rules != null && !CardCatalog.like(card.rules, rules)) {
+            return false;
+        }
+        if (variousArt != null && card.variousArt != variousArt) {
+            return false;
+        }
+        if (doubleFaced != null && card.doubleFaced != doubleFaced) {
+            return false;
+        }
+        if (modalDoubleFaced != null && card.doubleFacedCard != modalDoubleFaced) {
+            return false;
+        }
+        if (!rarities.isEmpty() && !rarities.contains(card.rarity)) {
+            return false;
+        }
+        if (!setCodes.isEmpty() && setCodes.stream().noneMatch(setCode -> CardCatalog.equalsIgnoreCase(card.setCode, setCode))) {
+            return false;
+        }
+        if (ignoreSetCodes.stream().anyMatch(setCode -> CardCatalog.equalsIgnoreCase(card.setCode, setCode))) {
+            return false;
+        }
+        if (types.size() != 7 && !types.isEmpty() && types.stream().noneMatch(type -> CardCatalog.like(card.types, type.name()))) {
+            return false;
+        }
+        for (CardType type : notTypes) {
+            if (!CardCatalog.notLike(card.types, type.name())) {
+                return false;
+            }
+        }
+        for (SuperType superType : supertypes) {
+            if (!CardCatalog.like(card.supertypes, superType.name())) {
+                return false;
+            }
+        }
+        for (SuperType superType : notSupertypes) {
+            if (!CardCatalog.notLike(card.supertypes, superType.name())) {
+                return false;
+            }
+        }
+        for (SubType subType : subtypes) {
+            if (!CardCatalog.like(card.subtypes, subType.toString())) {
+                return false;
+            }
+        }
+        if (manaValue != null && card.manaValue != manaValue) {
+            return false;
+        }
+
+        if (black || blue || green || red || white || colorless) {
+            boolean isColorless = !card.black && !card.blue && !card.green && !card.red && !card.white;
+            if (!(black && card.black
+                    || blue && card.blue
+                    || green && card.green
+                    || red && card.red
+                    || white && card.white
+                    || colorless && isColorless)) {
+                return false;
+            }
+        }
+
+        return card.cardNumberAsInt >= minCardNumber && card.cardNumberAsInt <= maxCardNumber;
+    }
+
+    CardCriteria optimize() {
         // remove rarity
         if (rarities.size() > 0) {
             List<Rarity> unusedRarities = new ArrayList<>(Arrays.asList(Rarity.values()));
@@ -118,7 +118,7 @@ public class CardInfo {
     @DatabaseField
     protected boolean isExtraDeckCard;
 
-    // if you add new field with card side name then update CardRepository.addNewNames too
+    // if you add new field with card side name then update CardCatalog.addNewNames too
 
     public enum ManaCostSide {
         LEFT, RIGHT, ALL
@@ -6,7 +6,6 @@ import com.j256.ormlite.dao.GenericRawResults;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.stmt.SelectArg;
-import com.j256.ormlite.stmt.Where;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.support.DatabaseConnection;
 import com.j256.ormlite.table.TableUtils;
@@ -43,8 +42,8 @@ public enum CardRepository {
 
     private Dao<CardInfo, Object> cardsDao;
 
-    // store names lists like all cards, lands, etc (it's static data and can be calculated one time only)
-    private static final Map<String, Set<String>> namesQueryCache = new HashMap<>();
+    // in-memory copy of the db for searching (it's static data and can be loaded one time only)
+    private volatile CardCatalog catalog;
 
     // sets with exclusively snow basics
     public static final Set<String> snowLandSetCodes = new HashSet<>(Arrays.asList(
@@ -67,6 +66,8 @@ public enum CardRepository {
             if (isObsolete || isNewBuild) {
                 //System.out.println("Local cards db is outdated, cleaning...");
                 TableUtils.dropTable(connectionSource, CardInfo.class, true);
+                // sets info can keep old cards content, so scanner must check all cards again
+                RepositoryUtil.updateVersion(connectionSource, VERSION_ENTITY_NAME + "Content", 0);
             }
 
             TableUtils.createTableIfNotExists(connectionSource, CardInfo.class);
@@ -122,232 +123,84 @@ public enum CardRepository {
             setContentVersion(newContentVersion);
         } catch (Exception ex) {
             //
+        } finally {
+            resetCatalog();
         }
     }
 
-    private void addNewNames(CardInfo card, Set<String> namesList) {
-        // require before call: qb.distinct().selectColumns("name", "doubleFacedSecondSideName"...);
-
-        // normal names
-        int result = card.getName().indexOf(" // ");
-        if (result > 0) {
-            namesList.add(card.getName().substring(0, result));
-            namesList.add(card.getName().substring(result + 4));
-        } else {
-            namesList.add(card.getName());
-        }
-
-        // additional names from double side cards
-        if (card.getSecondSideName() != null && !card.getSecondSideName().isEmpty()) {
-            namesList.add(card.getSecondSideName());
+    private CardCatalog getCatalog() {
+        CardCatalog res = catalog;
+        if (res != null) {
+            return res;
         }
-        if (card.getDoubleFacedSecondSideName() != null && !card.getDoubleFacedSecondSideName().isEmpty()) {
-            namesList.add(card.getDoubleFacedSecondSideName());
-        }
-        if (card.getFlipCardName() != null && !card.getFlipCardName().isEmpty()) {
-            namesList.add(card.getFlipCardName());
-        }
-        if (card.getMeldsToCardName() != null && !card.getMeldsToCardName().isEmpty()) {
-            namesList.add(card.getMeldsToCardName());
-        }
-        if (card.getSpellOptionCardName() != null && !card.getSpellOptionCardName().isEmpty()) {
-            namesList.add(card.getSpellOptionCardName());
+        synchronized (this) {
+            if (catalog == null) {
+                try {
+                    catalog = new CardCatalog(cardsDao.queryForAll());
+                } catch (SQLException e) {
+                    Logger.getLogger(CardRepository.class).error("Error loading cards from DB, possible low memory: " + e, e);
+                    processMemoryErrors(e);
+                    return CardCatalog.EMPTY;
+                }
+            }
+            return catalog;
         }
     }
 
+    private synchronized void resetCatalog() {
+        // wait for loading, so new cards can't be lost
+        catalog = null;
+    }
+
     public static Boolean haveSnowLands(String setCode) {
         return snowLandSetCodes.contains(setCode);
     }
 
-    public synchronized Set<String> getNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNames() {
+        return getCatalog().getNames("getNames", card -> true);
     }
 
-    public synchronized Set<String> getLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getLandNames() {
+        return getCatalog().getNames("getLandNames",
+                card -> CardCatalog.like(card.types, CardType.LAND.name()));
     }
 
-    public synchronized Set<String> getNonLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().not().like("types", new SelectArg('%' + CardType.LAND.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonLandNames() {
+        return getCatalog().getNames("getNonLandNames",
+                card -> CardCatalog.notLike(card.types, CardType.LAND.name()));
     }
 
-    public synchronized Set<String> getNonbasicLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonbasicLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("supertypes", '%' + SuperType.BASIC.name() + '%'),
-                    where.like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonbasicLandNames() {
+        return getCatalog().getNames("getNonbasicLandNames",
+                card -> CardCatalog.notLike(card.supertypes, SuperType.BASIC.name())
+                        && CardCatalog.like(card.types, CardType.LAND.name()));
     }
 
-    public synchronized Set<String> getNotBasicLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNotBasicLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().not().like("supertypes", new SelectArg('%' + SuperType.BASIC.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNotBasicLandNames() {
+        return getCatalog().getNames("getNotBasicLandNames",
+                card -> CardCatalog.notLike(card.supertypes, SuperType.BASIC.name()));
     }
 
-    public synchronized Set<String> getCreatureNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getCreatureNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.CREATURE.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting creature names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getCreatureNames() {
+        return getCatalog().getNames("getCreatureNames",
+                card -> CardCatalog.like(card.types, CardType.CREATURE.name()));
     }
 
-    public synchronized Set<String> getArtifactNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getArtifactNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            qb.where().like("types", new SelectArg('%' + CardType.ARTIFACT.name() + '%'));
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting artifact names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getArtifactNames() {
+        return getCatalog().getNames("getArtifactNames",
+                card -> CardCatalog.like(card.types, CardType.ARTIFACT.name()));
     }
 
-    public synchronized Set<String> getNonLandAndNonCreatureNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonLandAndNonCreatureNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("types", '%' + CardType.CREATURE.name() + '%'),
-                    where.not().like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land and non-creature names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonLandAndNonCreatureNames() {
+        return getCatalog().getNames("getNonLandAndNonCreatureNames",
+                card -> CardCatalog.notLike(card.types, CardType.CREATURE.name())
+                        && CardCatalog.notLike(card.types, CardType.LAND.name()));
     }
 
-    public synchronized Set<String> getNonArtifactAndNonLandNames() {
-        Set<String> names = namesQueryCache.computeIfAbsent("getNonArtifactAndNonLandNames", x -> new TreeSet<>());
-        if (!names.isEmpty()) {
-            return names;
-        }
-        try {
-            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
-            qb.distinct().selectColumns("name", "doubleFacedSecondSideName", "secondSideName", "flipCardName", "spellOptionCardName");
-            Where<CardInfo, Object> where = qb.where();
-            where.and(
-                    where.not().like("types", '%' + CardType.ARTIFACT.name() + '%'),
-                    where.not().like("types", '%' + CardType.LAND.name() + '%')
-            );
-            List<CardInfo> results = cardsDao.query(qb.prepare());
-            for (CardInfo card : results) {
-                addNewNames(card, names);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-artifact non-land names from DB, possible low memory: " + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+    public Set<String> getNonArtifactAndNonLandNames() {
+        return getCatalog().getNames("getNonArtifactAndNonLandNames",
+                card -> CardCatalog.notLike(card.types, CardType.ARTIFACT.name())
+                        && CardCatalog.notLike(card.types, CardType.LAND.name()));
     }
 
     public CardInfo findCard(String setCode, String cardNumber) {
@@ -355,59 +208,27 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
-            if (ignoreNightCards) {
-                queryBuilder.limit(1L).where()
-                        .eq("setCode", new SelectArg(setCode))
-                        .and().eq("cardNumber", new SelectArg(cardNumber))
-                        .and().eq("nightCard", new SelectArg(false));
-            } else {
-                queryBuilder.limit(1L).where()
-                        .eq("setCode", new SelectArg(setCode))
-                        .and().eq("cardNumber", new SelectArg(cardNumber));
-
-                // some double faced cards can use second side card with same number as main side
-                // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
-                queryBuilder.orderBy("nightCard", true);
+        List<CardInfo> cards = getCatalog().findBySetCodeAndNumber(setCode, cardNumber, 0);
+        // some double faced cards can use second side card with same number as main side
+        // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
+        for (CardInfo card : cards) {
+            if (!card.isNightCard()) {
+                return card;
             }
-            List<CardInfo> result = cardsDao.query(queryBuilder.prepare());
-            if (!result.isEmpty()) {
-                return result.get(0);
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error finding card from DB: " + e, e);
-            processMemoryErrors(e);
+        }
+        if (!ignoreNightCards && !cards.isEmpty()) {
+            return cards.get(0);
         }
         return null;
     }
 
     public List<String> getClassNames() {
-        List<String> names = new ArrayList<>();
-        try {
-            List<CardInfo> results = cardsDao.queryForAll();
-            for (CardInfo card : results) {
-                names.add(card.getClassName());
-            }
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting classnames from DB, possible low memory:" + e, e);
-            processMemoryErrors(e);
-        }
-        return names;
+        return getCatalog().getClassNames();
     }
 
     public List<CardInfo> getMissingCards(List<String> classNames) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
-            queryBuilder.where().not().in("className", classNames);
-
-            return cardsDao.query(queryBuilder.prepare());
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting missing cards from DB: " + e, e);
-            processMemoryErrors(e);
-        }
-
-        return Collections.emptyList();
+        Set<String> existingClassNames = new HashSet<>(classNames);
+        return getCatalog().findAll(card -> !existingClassNames.contains(card.getClassName()));
     }
 
     public CardInfo findCard(String name) {
@@ -528,75 +349,48 @@ public enum CardRepository {
      * @canCheckDatabaseHealth try to fix database on any errors (use true anytime except fix methods itself)
      */
     public List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
+        CardCatalog cards = getCatalog();
         List<CardInfo> results;
-        QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
-        if (limitByMaxAmount > 0) {
-            queryBuilder.limit(limitByMaxAmount);
-        }
+        if (name.contains(" // ")) {
+            // Try to see if it's a split card first. (Split card stored in DB under full card name)
+            results = cards.findByName(name, limitByMaxAmount);
+
+            // Result comes back empty, try to search using the first half (could be Adventure, MDFC, etc.)
+            if (results.isEmpty()) {
+                String mainCardName = name.split(" // ", 2)[0];
+                results = cards.findByName(mainCardName, limitByMaxAmount); // If still empty, then card can't be found
+            }
+        } else { // Cannot tell if string represents the full name of a card or only part of it.
+            // Assume it is the full card name
+            results = cards.findByName(name, limitByMaxAmount);
 
-        try {
-            if (name.contains(" // ")) { //
-                // Try to see if it's a split card first. (Split card stored in DB under full card name)
-                // Could be made faster by searching assuming it's NOT a split card and first searching by the first
-                // half of the name, but this is easier to understand.
-                queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardsDao.query(queryBuilder.prepare());
-
-                // Result comes back empty, try to search using the first half (could be Adventure, MDFC, etc.)
-                if (results.isEmpty()) {
-                    String mainCardName = name.split(" // ", 2)[0];
-                    queryBuilder.where().eq("name", new SelectArg(mainCardName));
-                    results = cardsDao.query(queryBuilder.prepare());  // If still empty, then card can't be found
-                }
-            } else { // Cannot tell if string represents the full name of a card or only part of it.
-                // Assume it is the full card name
-                queryBuilder.where().eq("name", new SelectArg(name));
-                results = cardsDao.query(queryBuilder.prepare());
-
-                if (results.isEmpty()) {
-                    // Nothing found when looking for main name, try looking under the other names
-                    queryBuilder.where()
-                            .eq("flipCardName", new SelectArg(name)).or()
-                            .eq("secondSideName", new SelectArg(name)).or()
-                            .eq("spellOptionCardName", new SelectArg(name)).or()
-                            .eq("doubleFacedSecondSideName", new SelectArg(name));
-                    results = cardsDao.query(queryBuilder.prepare());
-                } else {
-                    // Check that a full card was found and not a SplitCardHalf
-                    // Can be caused by searching for "Fire" instead of "Fire // Ice"
-                    CardInfo firstCardInfo = results.get(0);
-                    if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
-                        // Find the main card by its setCode and CardNumber
-                        queryBuilder.where()
-                                .eq("setCode", new SelectArg(firstCardInfo.setCode)).and()
-                                .eq("cardNumber", new SelectArg(firstCardInfo.cardNumber));
-                        List<CardInfo> tmpResults = cardsDao.query(queryBuilder.prepare());
-
-                        String fullSplitCardName = null;
-                        for (CardInfo cardInfo : tmpResults) {
-                            if (cardInfo.isSplitCard()) {
-                                fullSplitCardName = cardInfo.name;
-                                break;
-                            }
-                        }
-                        if (fullSplitCardName == null) {
-                            return Collections.emptyList();
+            if (results.isEmpty()) {
+                // Nothing found when looking for main name, try looking under the other names
+                results = cards.findByOtherName(name, limitByMaxAmount);
+            } else {
+                // Check that a full card was found and not a SplitCardHalf
+                // Can be caused by searching for "Fire" instead of "Fire // Ice"
+                CardInfo firstCardInfo = results.get(0);
+                if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
+                    // Find the main card by its setCode and CardNumber
+                    List<CardInfo> tmpResults = cards.findBySetCodeAndNumber(firstCardInfo.setCode, firstCardInfo.cardNumber, limitByMaxAmount);
+
+                    String fullSplitCardName = null;
+                    for (CardInfo cardInfo : tmpResults) {
+                        if (cardInfo.isSplitCard()) {
+                            fullSplitCardName = cardInfo.name;
+                            break;
                         }
-
-                        queryBuilder.where().eq("name", new SelectArg(fullSplitCardName));
-                        results = cardsDao.query(queryBuilder.prepare());
                     }
+                    if (fullSplitCardName == null) {
+                        return Collections.emptyList();
+                    }
+
+                    results = cards.findByName(fullSplitCardName, limitByMaxAmount);
                 }
             }
-            return results;
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement: " + e, e);
-            if (canCheckDatabaseHealth) {
-                processMemoryErrors(e);
-            }
         }
-
-        return Collections.emptyList();
+        return results;
     }
 
     public List<CardInfo> findCards(String name, long limitByMaxAmount) {
@@ -604,15 +398,7 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCardsByClass(String canonicalClassName) {
-        try {
-            QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
-            queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
-            return cardsDao.query(queryBuilder.prepare());
-        } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement" + e, e);
-            processMemoryErrors(e);
-        }
-        return Collections.emptyList();
+        return getCatalog().findByClassName(canonicalClassName);
     }
 
     /**
@@ -625,6 +411,11 @@ public enum CardRepository {
      * @return
      */
     public List<CardInfo> findCards(CardCriteria criteria) {
+        if (criteria.getSortBy() == null) {
+            criteria.optimize();
+            return getCatalog().findCards(criteria);
+        }
+
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
@@ -722,6 +513,7 @@ public enum CardRepository {
         } catch (SQLException e) {
             Logger.getLogger(CardRepository.class).error("Error opening card repository - " + e, e);
         }
+        resetCatalog();
     }
 
     public void printDatabaseStats(String info) {
@@ -779,11 +571,15 @@ public enum CardRepository {
     }
 
     private static CardInfo safeFindKnownCard() {
-        // safe find of known card with memory/db fixes
-        return instance.findCards("Silvercoat Lion", 1, false, false)
-                .stream()
-                .findFirst()
-                .orElse(null);
+        // safe find of known card with memory/db fixes (must use db, not in-memory catalog)
+        try {
+            QueryBuilder<CardInfo, Object> queryBuilder = instance.cardsDao.queryBuilder();
+            queryBuilder.limit(1L).where().eq("name", new SelectArg("Silvercoat Lion"));
+            return instance.cardsDao.queryForFirst(queryBuilder.prepare());
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error finding known card in DB: " + e, e);
+            return null;
+        }
     }
 
     public static boolean checkDatabaseHealthAndFix() {
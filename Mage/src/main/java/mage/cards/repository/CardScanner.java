@@ -3,10 +3,9 @@ package mage.cards.repository;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author North
@@ -27,59 +26,97 @@ public final class CardScanner {
         }
         scanned = true;
 
-        List<CardInfo> cardsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToUpdate = new ArrayList<>();
+        List<ExpansionSet> setsToCheck = new ArrayList<>();
+
+        // sets info keeps cards hash from last scan, so unchanged sets can be skipped
+        // (only for actual cards db, e.g. it's not re-created and content version is same)
+        boolean canSkipSets = CardRepository.instance.getContentVersionFromDB() == CardRepository.instance.getContentVersionConstant();
 
         // check sets
+        Map<String, ExpansionInfo> existingSets = new HashMap<>();
+        for (ExpansionInfo expansionInfo : ExpansionRepository.instance.getAll()) {
+            existingSets.put(expansionInfo.getCode(), expansionInfo);
+        }
         for (ExpansionSet set : Sets.getInstance().values()) {
-            ExpansionInfo expansionInfo = ExpansionRepository.instance.getSetByCode(set.getCode());
+            ExpansionInfo expansionInfo = existingSets.get(set.getCode());
+            ExpansionInfo newExpansionInfo = new ExpansionInfo(set);
             if (expansionInfo == null) {
                 // need add
-                setsToAdd.add(new ExpansionInfo(set));
+                setsToAdd.add(newExpansionInfo);
             } else if (!expansionInfo.name.equals(set.getName())
                     || !expansionInfo.code.equals(set.getCode())
                     || !(Objects.equals(expansionInfo.blockName, set.getBlockName()))
                     || !expansionInfo.releaseDate.equals(set.getReleaseDate())
                     || expansionInfo.type != set.getSetType()
                     || expansionInfo.boosters != set.hasBoosters()
-                    || expansionInfo.basicLands != set.hasBasicLands()) {
+                    || expansionInfo.basicLands != set.hasBasicLands()
+                    || expansionInfo.cardsHash != newExpansionInfo.cardsHash) {
                 // need update
-                setsToUpdate.add(new ExpansionInfo(set));
+                setsToUpdate.add(newExpansionInfo);
+            }
+            if (!canSkipSets || expansionInfo == null || expansionInfo.cardsHash != newExpansionInfo.cardsHash) {
+                setsToCheck.add(set);
             }
         }
-        ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
         // check cards (only add mode, without updates)
-        for (ExpansionSet set : Sets.getInstance().values()) {
+        List<ExpansionSet.SetCardInfo> newCards = new ArrayList<>();
+        List<String> newCardsSetCodes = new ArrayList<>();
+        for (ExpansionSet set : setsToCheck) {
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
                 if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
                     // found new card
-                    Card card = CardImpl.createCard(
-                            setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        // Adds only main card, except night cards.
-
-                        // TODO: remove night cards from sets and db someday
-                        // Possible reasons for night cards in sets:
-                        // - direct put night card to battlefield by name in tests;
-                        // - images download;
-                        // - in old days xmage client was able to works without card classes, e.g.
-                        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
-
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
-                        }
-                    }
+                    newCards.add(setInfo);
+                    newCardsSetCodes.add(set.getCode());
                 }
             }
         }
+
+        // card classes loading and creating is slow, so use all cores (result keeps sets order)
+        List<String> errors = errorsList == null ? null : Collections.synchronizedList(errorsList);
+        List<CardInfo> cardsToAdd = IntStream.range(0, newCards.size())
+                .parallel()
+                .mapToObj(i -> createCardInfos(newCards.get(i), newCardsSetCodes.get(i), errors))
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
         CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
+        if (cardsToAdd.isEmpty() && !canSkipSets) {
+            // nothing to save, but cards db is actual now
+            CardRepository.instance.setContentVersion(CardRepository.instance.getContentVersionConstant());
+        }
+
+        // save sets after cards, so cards hash can't be saved without cards
+        ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
+    }
+
+    private static List<CardInfo> createCardInfos(ExpansionSet.SetCardInfo setInfo, String setCode, List<String> errorsList) {
+        Card card = CardImpl.createCard(
+                setInfo.getCardClass(),
+                new CardSetInfo(setInfo.getName(), setCode, setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
+                errorsList);
+        if (card == null) {
+            return Collections.emptyList();
+        }
+
+        // Adds only main card, except night cards.
+
+        // TODO: remove night cards from sets and db someday
+        // Possible reasons for night cards in sets:
+        // - direct put night card to battlefield by name in tests;
+        // - images download;
+        // - in old days xmage client was able to works without card classes, e.g.
+        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
+
+        List<CardInfo> res = new ArrayList<>();
+        res.add(new CardInfo(card));
+        if (card instanceof SplitCard) {
+            SplitCard splitCard = (SplitCard) card;
+            res.add(new CardInfo(splitCard.getLeftHalfCard()));
+            res.add(new CardInfo(splitCard.getRightHalfCard()));
+        }
+        return res;
     }
 
     public static List<Card> getAllCards() {
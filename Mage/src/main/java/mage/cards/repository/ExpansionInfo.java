@@ -7,6 +7,7 @@ import mage.cards.ExpansionSet;
 import mage.constants.SetType;
 
 import java.util.Date;
+import java.util.Objects;
 
 /**
  * @author North
@@ -28,6 +29,8 @@ public class ExpansionInfo {
     protected boolean boosters;
     @DatabaseField
     protected boolean basicLands;
+    @DatabaseField
+    protected long cardsHash;
 
     public ExpansionInfo() {
     }
@@ -40,6 +43,23 @@ public class ExpansionInfo {
         this.type = expansionSet.getSetType();
         this.boosters = expansionSet.hasBoosters();
         this.basicLands = expansionSet.hasBasicLands();
+        this.cardsHash = calcCardsHash(expansionSet);
+    }
+
+    /**
+     * Set's cards content for fast changes check on startup (must be same between app runs, so no enum/object hashes)
+     */
+    public static long calcCardsHash(ExpansionSet expansionSet) {
+        long res = 0;
+        for (ExpansionSet.SetCardInfo setInfo : expansionSet.getSetCardInfo()) {
+            res = 31 * res + Objects.hash(
+                    setInfo.getName(),
+                    setInfo.getCardNumber(),
+                    setInfo.getRarity() == null ? null : setInfo.getRarity().name(),
+                    setInfo.getCardClass() == null ? null : setInfo.getCardClass().getName()
+            );
+        }
+        return res;
     }
 
     public String getName() {
@@ -70,6 +90,10 @@ public class ExpansionInfo {
         return basicLands;
     }
 
+    public long getCardsHash() {
+        return cardsHash;
+    }
+
     @Override
     public String toString() {
         return name;
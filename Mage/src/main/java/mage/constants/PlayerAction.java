@@ -50,6 +50,7 @@ public enum PlayerAction {
     CLIENT_CONCEDE_GAME,
     CLIENT_CONCEDE_MATCH,
     CLIENT_STOP_WATCHING,
+    CLIENT_REQUEST_FULL_GAME_UPDATE, // client can't restore game update (lost full data), so server must send full data
 
     CLIENT_DISCONNECT_FULL,  // send disconnect to server and exit (concede)
     CLIENT_DISCONNECT_KEEP_GAMES, // close app only (can re-connect again)
@@ -71,7 +71,12 @@ public class FilterCard extends FilterObject<Card> {
             return false;
         }
         ObjectSourcePlayer<Card> osp = new ObjectSourcePlayer<>(card, playerId, source);
-        return extraPredicates.stream().allMatch(p -> p.apply(osp, game));
+        for (int i = 0; i < extraPredicates.size(); i++) {
+            if (!extraPredicates.get(i).apply(osp, game)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public final void add(ObjectSourcePlayerPredicate predicate) {
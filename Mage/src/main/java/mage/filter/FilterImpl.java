@@ -18,6 +18,9 @@ public abstract class FilterImpl<E> implements Filter<E> {
     protected String message;
     protected boolean lockedFilter; // Helps to prevent "accidentally" modifying the StaticFilters objects
 
+    // same predicates sorted by check cost, builds on first usage (static filters builds it one time)
+    private transient volatile List<Predicate<? super E>> compiledPredicates;
+
     @Override
     public abstract FilterImpl<E> copy();
 
@@ -30,22 +33,39 @@ public abstract class FilterImpl<E> implements Filter<E> {
         this.message = filter.message;
         this.predicates = new ArrayList<>(filter.predicates);
         this.lockedFilter = false;// After copying a filter it's allowed to modify
+        this.compiledPredicates = filter.compiledPredicates;
     }
 
     @Override
     public boolean match(E e, Game game) {
         if (checkObjectClass(e)) {
-            return Predicates.and(predicates).apply(e, game);
+            List<Predicate<? super E>> compiled = getCompiledPredicates();
+            for (int i = 0; i < compiled.size(); i++) {
+                if (!compiled.get(i).apply(e, game)) {
+                    return false;
+                }
+            }
+            return true;
         }
         return false;
     }
 
+    private List<Predicate<? super E>> getCompiledPredicates() {
+        List<Predicate<? super E>> compiled = this.compiledPredicates;
+        if (compiled == null || compiled.size() != predicates.size()) {
+            compiled = Predicates.sortByCost(predicates);
+            this.compiledPredicates = compiled;
+        }
+        return compiled;
+    }
+
     @Override
     public final Filter<E> add(Predicate<? super E> predicate) {
         if (isLockedFilter()) {
             throw new UnsupportedOperationException("You may not modify a locked filter");
         }
         predicates.add(predicate);
+        compiledPredicates = null;
         return this;
     }
 
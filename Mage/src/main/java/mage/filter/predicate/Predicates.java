@@ -1,11 +1,20 @@
 package mage.filter.predicate;
 
+import mage.constants.CardType;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import mage.filter.predicate.mageobject.*;
+import mage.filter.predicate.permanent.ControllerIdPredicate;
+import mage.filter.predicate.permanent.PermanentIdPredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.filter.predicate.permanent.TokenPredicate;
 import mage.game.Game;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -151,8 +160,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().allMatch(predicate -> predicate.apply(t, game));
-
+            for (int i = 0; i < components.size(); i++) {
+                if (!components.get(i).apply(t, game)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         @Override
@@ -176,7 +189,12 @@ public final class Predicates {
 
         @Override
         public boolean apply(T t, Game game) {
-            return components.stream().anyMatch(predicate -> predicate.apply(t, game));
+            for (int i = 0; i < components.size(); i++) {
+                if (components.get(i).apply(t, game)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -227,6 +245,42 @@ public final class Predicates {
         return sb.toString();
     }
 
+    /**
+     * Filter optimization: sort predicates by check cost, so cheap checks like card type or controller goes first
+     * and slow checks like abilities search can be skipped. Predicates must be without side effects, so the order
+     * doesn't change the result. Unknown predicates keep original order.
+     */
+    public static <T> List<Predicate<? super T>> sortByCost(List<Predicate<? super T>> predicates) {
+        List<Predicate<? super T>> res = new ArrayList<>(predicates);
+        res.sort(Comparator.comparingInt(Predicates::getCost)); // stable sort
+        return res;
+    }
+
+    private static int getCost(Predicate predicate) {
+        if (predicate instanceof NotPredicate) {
+            return getCost(((NotPredicate) predicate).predicate);
+        }
+        if (predicate instanceof CardType.CardTypePredicate
+                || predicate instanceof SuperType.SuperTypePredicate
+                || predicate instanceof TappedPredicate
+                || predicate instanceof TokenPredicate
+                || predicate instanceof ControllerIdPredicate
+                || predicate instanceof CardIdPredicate
+                || predicate instanceof PermanentIdPredicate) {
+            // simple fields
+            return 0;
+        }
+        if (predicate instanceof SubType.SubTypePredicate
+                || predicate instanceof ColorPredicate
+                || predicate instanceof ColorlessPredicate
+                || predicate instanceof MulticoloredPredicate
+                || predicate instanceof MonocoloredPredicate) {
+            // calculated fields (changeling, colors from effects)
+            return 1;
+        }
+        return 2;
+    }
+
     /**
      * Collect real predicates for searching some data (see dependency effect code)
      */
@@ -38,6 +38,7 @@ import mage.players.Player;
 import mage.players.PlayerList;
 import mage.players.Players;
 import mage.util.Copyable;
+import mage.util.IdSource;
 import mage.util.MessageToClient;
 import mage.util.MultiAmountMessage;
 import mage.util.functions.CopyApplier;
@@ -76,6 +77,11 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
 
     void setCustomData(Object data);
 
+    /**
+     * Ids source for new game objects (abilities, effects, events), shared by game copies
+     */
+    IdSource getIdSource();
+
     GameOptions getOptions();
 
     /**
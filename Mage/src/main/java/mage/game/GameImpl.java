@@ -111,6 +111,7 @@ public abstract class GameImpl implements Game {
     protected AtomicInteger totalErrorsCount = new AtomicInteger(); // for debug only: error stats
 
     protected final UUID id;
+    protected IdSource idSource; // fast ids for game objects, see IdUtil (simulations use own source)
     protected final Integer gameIndex; // for better logs and history
     protected UUID tableId = null;
 
@@ -175,6 +176,7 @@ public abstract class GameImpl implements Game {
     public GameImpl(MultiplayerAttackOption attackOption, RangeOfInfluence range, Mulligan mulligan, int minimumDeckSize, int startingLife, int startingHandSize) {
         this.id = UUID.randomUUID();
         this.gameIndex = GLOBAL_INDEX.incrementAndGet();
+        this.idSource = IdSource.createForGame(this.gameIndex);
         this.range = range;
         this.mulligan = mulligan;
         this.attackOption = attackOption;
@@ -195,6 +197,7 @@ public abstract class GameImpl implements Game {
         this.checkPlayableState = game.checkPlayableState;
 
         this.id = game.id;
+        this.idSource = game.idSource;
         this.gameIndex = game.gameIndex;
         this.tableId = game.tableId;
         this.totalErrorsCount.set(game.totalErrorsCount.get());
@@ -255,6 +258,11 @@ public abstract class GameImpl implements Game {
          */
     }
 
+    @Override
+    public IdSource getIdSource() {
+        return idSource;
+    }
+
     @Override
     public Integer getGameIndex() {
         return this.gameIndex;
@@ -270,6 +278,7 @@ public abstract class GameImpl implements Game {
         Game res = this.copy();
         ((GameImpl) res).simulation = true;
         ((GameImpl) res).aiGame = true;
+        ((GameImpl) res).idSource = new IdSource(); // simulations must not change ids of the real game
         return res;
     }
 
@@ -278,6 +287,7 @@ public abstract class GameImpl implements Game {
         Game res = this.copy();
         ((GameImpl) res).simulation = true;
         ((GameImpl) res).checkPlayableState = true;
+        ((GameImpl) res).idSource = new IdSource(); // simulations must not change ids of the real game
         return res;
     }
 
@@ -818,11 +828,22 @@ public abstract class GameImpl implements Game {
     public void saveState(boolean bookmark) {
         if (!simulation && gameStates != null) {
             if (bookmark || saveGame) {
-                gameStates.save(state);
+                gameStates.save(state, getFirstBookmarkedStateIndex());
             }
         }
     }
 
+    /**
+     * Bookmarked states can't be removed by saved states limit (it's used for undo and rollback on errors)
+     */
+    private int getFirstBookmarkedStateIndex() {
+        int res = Integer.MAX_VALUE;
+        for (int stateIndex : savedStates) {
+            res = Math.min(res, stateIndex);
+        }
+        return res;
+    }
+
     @Override
     public void setConcedingPlayer(UUID playerId) {
         // request to concede a player (can be called for any player at any moment by concede button, connection fail, etc)
@@ -996,6 +1017,7 @@ public abstract class GameImpl implements Game {
                         playerList.setCurrent(state.getPlayerByOrderId());
                         return state;
                     }
+                    logger.error("It was not possible to do the requested undo operation (state " + stateNum + " does not exist) context: " + context);
                 }
             }
         }
@@ -1019,9 +1041,15 @@ public abstract class GameImpl implements Game {
         if (!simulation) {
             if (bookmark != 0) {
                 while (savedStates.size() >= bookmark) {
-                    int outdatedIndex = savedStates.pop();
-                    while (gameStates.getSize() - 1 >= outdatedIndex) {
-                        gameStates.remove(gameStates.getSize() - 1);
+                    // states before removedStates can be already removed by limit, so it's outdated too
+                    int outdatedIndex = Math.max(savedStates.pop(), gameStates.getRemovedStates());
+                    int size = gameStates.getSize();
+                    while (size > outdatedIndex) {
+                        int newSize = gameStates.remove(outdatedIndex);
+                        if (newSize >= size) {
+                            break;
+                        }
+                        size = newSize;
                     }
                 }
             }
@@ -1056,11 +1084,16 @@ public abstract class GameImpl implements Game {
 
     @Override
     public void start(UUID choosingPlayerId) {
-        startTime = new Date();
-        DataCollectorServices.getInstance().onGameStart(this);
-        if (state.getPlayers().values().iterator().hasNext()) {
-            init(choosingPlayerId);
-            play(startingPlayerId);
+        IdSource prevIdSource = IdUtil.bindSource(idSource);
+        try {
+            startTime = new Date();
+            DataCollectorServices.getInstance().onGameStart(this);
+            if (state.getPlayers().values().iterator().hasNext()) {
+                init(choosingPlayerId);
+                play(startingPlayerId);
+            }
+        } finally {
+            IdUtil.restoreSource(prevIdSource);
         }
     }
 
@@ -1193,26 +1226,31 @@ public abstract class GameImpl implements Game {
 
     @Override
     public void resume() {
-        playerList = state.getPlayerList(state.getActivePlayerId());
-        Player player = getPlayer(playerList.get());
-        boolean wasPaused = state.isPaused();
-        state.resume();
-        if (!checkIfGameIsOver()) {
-            fireInformEvent("Turn " + state.getTurnNum());
-            if (checkStopOnTurnOption()) {
-                return;
-            }
-            state.getTurn().resumePlay(this, wasPaused);
-            if (!isPaused() && !checkIfGameIsOver()) {
-                endOfTurn();
-                Player nextPlayer = playerList.getNext(this, true);
-                if (nextPlayer != null) {
-                    player = nextPlayer;
+        IdSource prevIdSource = IdUtil.bindSource(idSource);
+        try {
+            playerList = state.getPlayerList(state.getActivePlayerId());
+            Player player = getPlayer(playerList.get());
+            boolean wasPaused = state.isPaused();
+            state.resume();
+            if (!checkIfGameIsOver()) {
+                fireInformEvent("Turn " + state.getTurnNum());
+                if (checkStopOnTurnOption()) {
+                    return;
+                }
+                state.getTurn().resumePlay(this, wasPaused);
+                if (!isPaused() && !checkIfGameIsOver()) {
+                    endOfTurn();
+                    Player nextPlayer = playerList.getNext(this, true);
+                    if (nextPlayer != null) {
+                        player = nextPlayer;
+                    }
+                    state.setTurnNum(state.getTurnNum() + 1);
                 }
-                state.setTurnNum(state.getTurnNum() + 1);
             }
+            play(player.getId());
+        } finally {
+            IdUtil.restoreSource(prevIdSource);
         }
-        play(player.getId());
     }
 
     private boolean checkStopOnTurnOption() {
@@ -34,7 +34,9 @@ import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
 import mage.util.CardUtil;
+import mage.util.CopyOnWriteMap;
 import mage.util.Copyable;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -42,6 +44,7 @@ import org.apache.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -99,12 +102,12 @@ public class GameState implements Serializable, Copyable<GameState> {
     private List<TriggeredAbility> triggered = new ArrayList<>(); // raised triggers, waiting to resolve (can contains both normal and delayed)
     private Combat combat;
     private Map<String, Object> values = new HashMap<>();
-    private Map<UUID, Zone> zones = new HashMap<>();
+    private CopyOnWriteMap<UUID, Zone> zones = new CopyOnWriteMap<>(); // cheap copy, values are immutable
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
     private Map<UUID, CardState> cardState = new HashMap<>();
     private Map<MageObjectReference, Map<String, Object>> permanentCostsTags = new HashMap<>(); // Permanent reference -> map of (tag -> values) describing how the permanent's spell was cast
     private Map<UUID, MageObjectAttribute> mageObjectAttribute = new HashMap<>();
-    private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
+    private CopyOnWriteMap<UUID, Integer> zoneChangeCounter = new CopyOnWriteMap<>(); // cheap copy, values are immutable
     private Map<UUID, Card> copiedCards = new HashMap<>();
     private int permanentOrderNumber;
     private final Map<UUID, FilterCreaturePermanent> usePowerInsteadOfToughnessForDamageLethalityFilters = new HashMap<>();
@@ -116,6 +119,13 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
 
+    // unique version of the state for all games, see getVersion
+    private static final int VERSION_CHANGES_BITS = 24; // max changes per version branch, next changes use new branch
+    private static final long VERSION_CHANGES_MASK = (1L << VERSION_CHANGES_BITS) - 1;
+    private static final AtomicLong versionBranches = new AtomicLong();
+    private long version;
+    private boolean versionShared; // same version used by state's copy, so next change must use new branch
+
     public GameState() {
         players = new Players();
         playerList = new PlayerList();
@@ -134,6 +144,8 @@ public class GameState implements Serializable, Copyable<GameState> {
         turnMods = new TurnMods();
         watchers = new Watchers();
         applyEffectsCounter = 0;
+        versionShared = true;
+        updateVersion();
     }
 
     protected GameState(final GameState state) {
@@ -173,15 +185,18 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.turnMods = state.turnMods.copy();
         this.watchers = state.watchers.copy();
         this.values = CardUtil.deepCopyObject(state.values);
-        this.zones.putAll(state.zones);
+        this.zones = state.zones.copy();
         this.simultaneousEvents.addAll(state.simultaneousEvents);
         this.cardState = CardUtil.deepCopyObject(state.cardState);
         this.permanentCostsTags = CardUtil.deepCopyObject(state.permanentCostsTags);
         this.mageObjectAttribute = CardUtil.deepCopyObject(state.mageObjectAttribute);
-        this.zoneChangeCounter.putAll(state.zoneChangeCounter);
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
         this.copiedCards.putAll(state.copiedCards);
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.version = state.version;
+        this.versionShared = true;
+        state.versionShared = true;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay.addAll(state.commandersToStay);
@@ -276,6 +291,9 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.version = state.version;
+        this.versionShared = true;
+        state.versionShared = true;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay = state.commandersToStay;
@@ -447,6 +465,116 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * AI related: same as getValue(useHidden), but without strings building (fast and can be used as map key)
+     */
+    public long getHash(boolean useHidden) {
+        long hash = getTurnHash();
+
+        for (Player player : players.values()) {
+            hash = StateHashUtil.add(hash, player.getLife());
+            if (useHidden) {
+                hash = StateHashUtil.add(hash, player.getHand());
+            } else {
+                hash = StateHashUtil.add(hash, player.getHand().size());
+            }
+            hash = StateHashUtil.add(hash, player.getLibrary().size());
+            hash = StateHashUtil.add(hash, player.getGraveyard());
+        }
+
+        hash = StateHashUtil.add(hash, getPermanentsHash());
+
+        for (StackObject spell : stack) {
+            hash = StateHashUtil.add(hash, spell.getControllerId());
+            hash = StateHashUtil.add(hash, spell.getName());
+        }
+
+        long exileHash = 0;
+        for (ExileZone zone : exile.getExileZones()) {
+            exileHash = StateHashUtil.addUnordered(exileHash, StateHashUtil.add(StateHashUtil.add(0, zone.getName()), zone));
+        }
+        hash = StateHashUtil.add(hash, exileHash);
+
+        return StateHashUtil.add(hash, getCombatHash());
+    }
+
+    /**
+     * AI related: same as getValue(useHidden, game), but without strings building (fast and can be used as map key)
+     */
+    public long getHash(boolean useHidden, Game game) {
+        return getHash(game, useHidden, null);
+    }
+
+    /**
+     * AI related: same as getValue(game, playerId), but without strings building (fast and can be used as map key)
+     */
+    public long getHash(Game game, UUID playerId) {
+        return getHash(game, false, playerId);
+    }
+
+    private long getHash(Game game, boolean useAllHands, UUID handOwnerId) {
+        long hash = getTurnHash();
+
+        for (Player player : players.values()) {
+            hash = StateHashUtil.add(hash, player.isPassed());
+            hash = StateHashUtil.add(hash, player.getLife());
+            if (useAllHands || Objects.equals(handOwnerId, player.getId())) {
+                hash = StateHashUtil.add(hash, player.getHand().getHash(game));
+            } else {
+                hash = StateHashUtil.add(hash, player.getHand().size());
+            }
+            hash = StateHashUtil.add(hash, player.getLibrary().size());
+            hash = StateHashUtil.add(hash, player.getGraveyard().getHash(game));
+        }
+
+        hash = StateHashUtil.add(hash, getPermanentsHash());
+
+        for (StackObject spell : stack) {
+            hash = StateHashUtil.add(hash, spell.getControllerId());
+            hash = StateHashUtil.add(hash, spell.getName());
+            hash = StateHashUtil.add(hash, spell.getStackAbility());
+            for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
+                Mode mode = spell.getStackAbility().getModes().get(modeId);
+                for (Target target : mode.getTargets()) {
+                    hash = StateHashUtil.add(hash, target.getTargets());
+                }
+            }
+        }
+
+        long exileHash = 0;
+        for (ExileZone zone : exile.getExileZones()) {
+            exileHash = StateHashUtil.addUnordered(exileHash, StateHashUtil.add(StateHashUtil.add(0, zone.getName()), zone.getHash(game)));
+        }
+        hash = StateHashUtil.add(hash, exileHash);
+
+        return StateHashUtil.add(hash, getCombatHash());
+    }
+
+    private long getTurnHash() {
+        long hash = turn.getHash(turnNum);
+        hash = StateHashUtil.add(hash, activePlayerId);
+        hash = StateHashUtil.add(hash, priorityPlayerId);
+        return StateHashUtil.add(hash, playerByOrderId);
+    }
+
+    private long getPermanentsHash() {
+        long hash = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            hash = StateHashUtil.addUnordered(hash, permanent.getHash(this));
+        }
+        return hash;
+    }
+
+    private long getCombatHash() {
+        long hash = 0;
+        for (CombatGroup group : combat.getGroups()) {
+            hash = StateHashUtil.add(hash, group.getDefenderId());
+            hash = StateHashUtil.add(hash, group.getAttackers());
+            hash = StateHashUtil.add(hash, group.getBlockers());
+        }
+        return hash;
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -461,6 +589,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setActivePlayerId(UUID activePlayerId) {
         this.activePlayerId = activePlayerId;
+        updateVersion();
     }
 
     public UUID getPlayerByOrderId() {
@@ -477,6 +606,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setPriorityPlayerId(UUID priorityPlayerId) {
         this.priorityPlayerId = priorityPlayerId;
+        updateVersion();
     }
 
     public UUID getMonarchId() {
@@ -667,6 +797,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     void applyEffects(Game game) {
         applyEffectsCounter++;
+        updateVersion();
         for (Player player : players.values()) {
             player.reset();
         }
@@ -794,6 +925,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void setZone(UUID id, Zone zone) {
+        updateVersion();
         if (zone == null) {
             zones.remove(id);
         } else {
@@ -1037,6 +1169,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        updateVersion();
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -1047,6 +1180,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        updateVersion();
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -1377,6 +1511,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param value
      */
     public <T> T setValue(String valueId, T value) {
+        updateVersion();
         values.put(valueId, value);
         return value;
     }
@@ -1695,6 +1830,27 @@ public class GameState implements Serializable, Copyable<GameState> {
         return applyEffectsCounter;
     }
 
+    /**
+     * Version of the state, changes on any game change (events, effects, zone changes, priority).
+     * <p>
+     * It's unique for all games and keeps on copy/restore, so can be used as cache key for
+     * heavy calculations like playable objects (same version = same state)
+     * <p>
+     * Version is a branch and changes counter: state's changes use plain counter (state used by game thread only),
+     * but the first change after copy/restore takes new branch, so source and copy never share a version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public void updateVersion() {
+        this.version++;
+        if (this.versionShared || (this.version & VERSION_CHANGES_MASK) == 0) {
+            this.version = versionBranches.incrementAndGet() << VERSION_CHANGES_BITS;
+            this.versionShared = false;
+        }
+    }
+
     public void addPowerInsteadOfToughnessForDamageLethalityFilter(UUID source, FilterCreaturePermanent filter) {
         usePowerInsteadOfToughnessForDamageLethalityFilters.put(source, filter);
     }
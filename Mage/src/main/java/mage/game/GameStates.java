@@ -1,4 +1,3 @@
-
 package mage.game;
 
 import java.io.Serializable;
@@ -7,6 +6,11 @@ import java.util.List;
 import org.apache.log4j.Logger;
 
 /**
+ * Saved game states (bookmarks for undo and replays)
+ * <p>
+ * Indexes are absolute: it's possible to limit stored states by setMaxStates,
+ * so oldest states will be removed on save and can't be used for rollback anymore
+ * (except bookmarked states, see save)
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -14,48 +18,97 @@ public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
     private final List<GameState> states;
+    private int removedStates; // amount of removed oldest states (index offset)
+    private int maxStates; // 0 - unlimited
 
     public GameStates() {
         this.states = new ArrayList<>();
+        this.removedStates = 0;
+        this.maxStates = 0;
+    }
+
+    /**
+     * Limit amount of stored states (0 - unlimited)
+     */
+    public void setMaxStates(int maxStates) {
+        this.maxStates = Math.max(0, maxStates);
+        removeOutdatedStates(Integer.MAX_VALUE);
+    }
+
+    public int getMaxStates() {
+        return maxStates;
     }
 
     public void save(GameState gameState) {
+        save(gameState, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param firstBookmarkedIndex states from that index are used by bookmarks and must be kept for rollback,
+     *                             so stored states can be more than the limit until bookmarks removed
+     */
+    public void save(GameState gameState, int firstBookmarkedIndex) {
         states.add(gameState.copy());
+        removeOutdatedStates(firstBookmarkedIndex);
         //logger.warn("states size: " + states.size());
     }
 
+    private void removeOutdatedStates(int firstBookmarkedIndex) {
+        if (maxStates > 0 && states.size() > maxStates) {
+            int needRemove = Math.min(states.size() - maxStates, firstBookmarkedIndex - removedStates);
+            if (needRemove <= 0) {
+                logger.trace("Can't remove outdated states, all used by bookmarks: " + states.size());
+                return;
+            }
+            states.subList(0, needRemove).clear();
+            removedStates += needRemove;
+            logger.trace("Removed outdated states: " + needRemove);
+        }
+    }
+
+    /**
+     * Total amount of saved states, including removed by limit
+     */
     public int getSize() {
-        return states.size();
+        return removedStates + states.size();
+    }
+
+    /**
+     * Amount of removed oldest states, it's also first available index
+     */
+    public int getRemovedStates() {
+        return removedStates;
     }
 
     public GameState rollback(int index) {
-        if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index + 1) {
+        if (!states.isEmpty() && index >= removedStates && index < getSize()) {
+            while (getSize() > index + 1) {
                 states.remove(states.size() - 1);
             }
             logger.trace("Rolling back state: " + index);
-            return states.get(index);
+            return states.get(index - removedStates);
         }
         return null;
     }
 
     public int remove(int index) {
-        if (!states.isEmpty() && index < states.size()) {
-            while (states.size() > index && !states.isEmpty()) {
+        if (!states.isEmpty() && index < getSize()) {
+            while (getSize() > index && !states.isEmpty()) {
                 states.remove(states.size() - 1);
             }
         }
-        return states.size();
+        return getSize();
     }
 
     public GameState get(int index) {
-        if (index < states.size()) {
-            return states.get(index);
+        if (index >= removedStates && index < getSize()) {
+            return states.get(index - removedStates);
         }
         return null;
     }
 
     public void clear() {
         states.clear();
+        removedStates = 0;
     }
 }
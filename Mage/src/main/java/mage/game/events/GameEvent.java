@@ -4,6 +4,7 @@ import mage.ApprovingObject;
 import mage.MageIdentifier;
 import mage.abilities.Ability;
 import mage.constants.Zone;
+import mage.util.IdUtil;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -789,7 +790,7 @@ public class GameEvent implements Serializable {
         this.playerId = playerId;
         this.flag = flag;
         this.approvingObject = approvingObject;
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
     }
 
     public EventType getType() {
@@ -0,0 +1,76 @@
+package mage.game.events;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Component: events dispatch index for triggers and watchers
+ * <p>
+ * Immutable snapshot of listeners with lazy lists by event type, so event processing
+ * visits only interested listeners. Listeners without known event types (null) will
+ * be visited by all events. Lists keep original listeners order.
+ * <p>
+ * Owner must drop the index on any listeners add/remove and build new one on next usage.
+ *
+ * @param <T> listener type
+ */
+public class GameEventTypeIndex<T> {
+
+    private final List<T> all;
+    private final List<Set<GameEvent.EventType>> allTypes; // null for unknown types (must be visited by all events)
+    private final EnumMap<GameEvent.EventType, List<T>> byType = new EnumMap<>(GameEvent.EventType.class);
+
+    public GameEventTypeIndex(Collection<T> listeners, Function<T, Set<GameEvent.EventType>> typesGetter) {
+        this.all = Collections.unmodifiableList(new ArrayList<>(listeners));
+        this.allTypes = new ArrayList<>(this.all.size());
+        for (T listener : this.all) {
+            this.allTypes.add(typesGetter.apply(listener));
+        }
+    }
+
+    /**
+     * All listeners (snapshot)
+     */
+    public List<T> getAll() {
+        return all;
+    }
+
+    /**
+     * Listeners that can be interested in the event type (snapshot)
+     */
+    public synchronized List<T> get(GameEvent.EventType type) {
+        List<T> res = byType.get(type);
+        if (res == null) {
+            List<T> list = new ArrayList<>();
+            for (int i = 0; i < all.size(); i++) {
+                Set<GameEvent.EventType> types = allTypes.get(i);
+                if (types == null || types.contains(type)) {
+                    list.add(all.get(i));
+                }
+            }
+            res = list.size() == all.size() ? all : Collections.unmodifiableList(list);
+            byType.put(type, res);
+        }
+        return res;
+    }
+
+    /**
+     * Event types declaration can be used only if it was made by same or child class of the event handler,
+     * e.g. card's class can override checkEventType from parent trigger with another types
+     *
+     * @param objectClass       class to check
+     * @param typesMethod       method name with event types declaration (without params)
+     * @param handlerMethod     method name with event types usage
+     * @param handlerParamTypes method params with event types usage
+     */
+    public static boolean isTypesDeclarationActual(Class<?> objectClass, String typesMethod, String handlerMethod, Class<?>... handlerParamTypes) {
+        try {
+            Method types = objectClass.getMethod(typesMethod);
+            Method handler = objectClass.getMethod(handlerMethod, handlerParamTypes);
+            return handler.getDeclaringClass().isAssignableFrom(types.getDeclaringClass());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Wrong code usage: can't find method in " + objectClass.getName(), e);
+        }
+    }
+}
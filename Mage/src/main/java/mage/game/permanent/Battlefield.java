@@ -20,6 +20,13 @@ public class Battlefield implements Serializable {
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
     private final Map<UUID, Permanent> permanentsEntering = new LinkedHashMap<>();
 
+    // secondary indexes for controller and phasing searches (must be same order as field)
+    // it builds on first usage (game copies for AI simulations don't need it), see updateIndexes for changes
+    private transient Map<UUID, IndexedPermanent> indexedPermanents;
+    private transient Map<UUID, TreeMap<Long, Permanent>> activeByController;
+    private transient TreeMap<Long, Permanent> phasedOut;
+    private transient long nextIndexPosition;
+
     public Battlefield() {
     }
 
@@ -43,11 +50,13 @@ public class Battlefield implements Serializable {
         for (Permanent perm : permanentsEntering.values()) {
             perm.reset(game);
         }
+        updateAllIndexes();
     }
 
     public void clear() {
         field.clear();
         permanentsEntering.clear();
+        indexedPermanents = null;
     }
 
     /**
@@ -59,13 +68,13 @@ public class Battlefield implements Serializable {
      * can use count() instead of countAll()
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, game)
-                        && permanent.isPhasedIn())
-                .count();
-
+        int count = 0;
+        for (Permanent permanent : getActiveControlled(controllerId)) {
+            if (filter.match(permanent, game)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -101,12 +110,16 @@ public class Battlefield implements Serializable {
      * @param controllerId controller and source can be different (from different players)
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
-                .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, controllerId, source, game)
-                        && permanent.isPhasedIn())
-                .count() >= num;
+        int count = 0;
+        for (Permanent permanent : getActiveControlled(controllerId)) {
+            if (count >= num) {
+                break;
+            }
+            if (filter.match(permanent, controllerId, source, game)) {
+                count++;
+            }
+        }
+        return count >= num;
     }
 
     public boolean contains(FilterPermanent filter, Ability source, Game game, int num) {
@@ -136,6 +149,13 @@ public class Battlefield implements Serializable {
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        if (indexedPermanents != null) {
+            if (indexedPermanents.containsKey(permanent.getId())) {
+                updateIndexes(permanent);
+            } else {
+                addToIndexes(permanent, nextIndexPosition++);
+            }
+        }
     }
 
     /**
@@ -152,6 +172,9 @@ public class Battlefield implements Serializable {
 
     public void removePermanent(UUID key) {
         field.remove(key);
+        if (indexedPermanents != null) {
+            removeFromIndexes(key);
+        }
     }
 
     /**
@@ -197,11 +220,7 @@ public class Battlefield implements Serializable {
      * the specified player id. The method ignores the range of influence.
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
-                .collect(Collectors.toList());
+        return new ArrayList<>(getActiveControlled(controllerId));
     }
 
     /**
@@ -211,10 +230,14 @@ public class Battlefield implements Serializable {
      */
     @Deprecated
     public List<Permanent> getAllActivePermanents(CardType type, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.getCardType(game).contains(type))
-                .collect(Collectors.toList());
+        // card types can be changed by effects at any time, so it's not indexed
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : field.values()) {
+            if (perm.isPhasedIn() && perm.getCardType(game).contains(type)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -237,10 +260,13 @@ public class Battlefield implements Serializable {
      * ObjectSourcePlayer predicates in the filter
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getActiveControlled(controllerId)) {
+            if (filter.match(perm, game)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
@@ -292,22 +318,27 @@ public class Battlefield implements Serializable {
      * Returns controlled permanents with phasing ability that are phased in, so that they can be phased out
      */
     public List<Permanent> getPhasingOut(Game game, UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.hasAbility(PhasingAbility.getInstance(), game)
-                        && perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
-                .collect(Collectors.toList());
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : getActiveControlled(controllerId)) {
+            if (perm.hasAbility(PhasingAbility.getInstance(), game)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     /**
      * Returns controlled permanents that are phased out, so that they can be phased in
      */
     public List<Permanent> getPhasedOut(UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> !perm.isPhasedIn() && perm.isControlledBy(controllerId))
-                .collect(Collectors.toList());
+        ensureIndexes();
+        List<Permanent> res = new ArrayList<>();
+        for (Permanent perm : phasedOut.values()) {
+            if (perm.isControlledBy(controllerId)) {
+                res.add(perm);
+            }
+        }
+        return res;
     }
 
     public void resetPermanentsControl() {
@@ -316,6 +347,7 @@ public class Battlefield implements Serializable {
                 perm.resetControl();
             }
         }
+        updateAllIndexes();
     }
 
     /**
@@ -330,22 +362,121 @@ public class Battlefield implements Serializable {
                 controlChanged |= perm.checkControlChanged(game);
             }
         }
+        updateAllIndexes();
         return controlChanged;
     }
 
     public int countTokens(UUID controllerId) {
-        return field
-                .values()
-                .stream()
-                .filter(Objects::nonNull)
-                .filter(PermanentToken.class::isInstance)
-                .map(permanent -> permanent.isControlledBy(controllerId))
-                .mapToInt(x -> x ? 1 : 0)
-                .sum();
+        int count = 0;
+        for (Permanent permanent : getActiveControlled(controllerId)) {
+            if (permanent instanceof PermanentToken) {
+                count++;
+            }
+        }
+        for (Permanent permanent : phasedOut.values()) {
+            if (permanent instanceof PermanentToken && permanent.isControlledBy(controllerId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Must be called after permanent's controller or phasing status changes
+     * (it's safe to call it for any permanent or object's copy)
+     */
+    public void updateIndexes(Permanent permanent) {
+        if (indexedPermanents == null) {
+            return;
+        }
+        Permanent current = field.get(permanent.getId());
+        IndexedPermanent indexed = indexedPermanents.get(permanent.getId());
+        if (current == null || indexed == null || indexed.isSame(current)) {
+            return;
+        }
+        removeFromIndexes(current.getId());
+        addToIndexes(current, indexed.position);
+    }
+
+    private void updateAllIndexes() {
+        if (indexedPermanents == null) {
+            return;
+        }
+        for (Permanent permanent : field.values()) {
+            updateIndexes(permanent);
+        }
+    }
+
+    private void ensureIndexes() {
+        if (indexedPermanents != null) {
+            return;
+        }
+        indexedPermanents = new HashMap<>();
+        activeByController = new HashMap<>();
+        phasedOut = new TreeMap<>();
+        nextIndexPosition = 0;
+        for (Permanent permanent : field.values()) {
+            addToIndexes(permanent, nextIndexPosition++);
+        }
+    }
+
+    private void addToIndexes(Permanent permanent, long position) {
+        IndexedPermanent indexed = new IndexedPermanent(permanent, position);
+        indexedPermanents.put(permanent.getId(), indexed);
+        if (indexed.phasedIn) {
+            activeByController.computeIfAbsent(indexed.controllerId, k -> new TreeMap<>()).put(position, permanent);
+        } else {
+            phasedOut.put(position, permanent);
+        }
+    }
+
+    private void removeFromIndexes(UUID permanentId) {
+        IndexedPermanent indexed = indexedPermanents.remove(permanentId);
+        if (indexed == null) {
+            return;
+        }
+        if (indexed.phasedIn) {
+            TreeMap<Long, Permanent> controlled = activeByController.get(indexed.controllerId);
+            if (controlled != null) {
+                controlled.remove(indexed.position);
+            }
+        } else {
+            phasedOut.remove(indexed.position);
+        }
+    }
+
+    /**
+     * Phased in permanents of the controller in battlefield's order
+     */
+    private Collection<Permanent> getActiveControlled(UUID controllerId) {
+        ensureIndexes();
+        TreeMap<Long, Permanent> controlled = activeByController.get(controllerId);
+        return controlled == null ? Collections.emptyList() : controlled.values();
     }
 
     @Override
     public String toString() {
         return "Permanents: " + field.size();
     }
+
+    private static final class IndexedPermanent {
+
+        private final Permanent permanent;
+        private final long position; // position in field
+        private final UUID controllerId;
+        private final boolean phasedIn;
+
+        private IndexedPermanent(Permanent permanent, long position) {
+            this.permanent = permanent;
+            this.position = position;
+            this.controllerId = permanent.getControllerId();
+            this.phasedIn = permanent.isPhasedIn();
+        }
+
+        private boolean isSame(Permanent current) {
+            return permanent == current
+                    && phasedIn == current.isPhasedIn()
+                    && Objects.equals(controllerId, current.getControllerId());
+        }
+    }
 }
@@ -20,7 +20,7 @@ public interface Permanent extends Card, Controllable {
 
     void setOriginalControllerId(UUID controllerId);
 
-    void setControllerId(UUID controllerId);
+    void setControllerId(UUID controllerId, Game game);
 
     boolean isTapped();
 
@@ -244,6 +244,8 @@ public interface Permanent extends Card, Controllable {
 
     String getValue(GameState state);
 
+    long getHash(GameState state); // AI related code to find changes in game state, same data as getValue
+
     /**
      * Add abilities to the permanent, can be used in effects
      *
@@ -39,6 +39,7 @@ import mage.players.Player;
 import mage.target.TargetPlayer;
 import mage.util.CardUtil;
 import mage.util.GameLog;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
 
@@ -229,9 +230,10 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
     }
 
     @Override
-    public void setControllerId(UUID controllerId) {
+    public void setControllerId(UUID controllerId, Game game) {
         this.controllerId = controllerId;
         abilities.setControllerId(controllerId);
+        game.getBattlefield().updateIndexes(this);
     }
 
     @Override
@@ -283,6 +285,30 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return sb.toString();
     }
 
+    @Override
+    public long getHash(GameState state) {
+        long hash = StateHashUtil.add(0, controllerId);
+        hash = StateHashUtil.add(hash, getName());
+        hash = StateHashUtil.add(hash, tapped);
+        hash = StateHashUtil.add(hash, damage);
+        hash = StateHashUtil.add(hash, subtype.size());
+        for (SubType subType : subtype) {
+            hash = StateHashUtil.add(hash, subType);
+        }
+        hash = StateHashUtil.add(hash, supertype.size());
+        for (SuperType superType : supertype) {
+            hash = StateHashUtil.add(hash, superType);
+        }
+        hash = StateHashUtil.add(hash, power.getValue());
+        hash = StateHashUtil.add(hash, toughness.getValue());
+        hash = StateHashUtil.add(hash, abilities.getHash());
+        for (Counter counter : getCounters(state).values()) {
+            hash = StateHashUtil.add(hash, counter.getName());
+            hash = StateHashUtil.add(hash, counter.getCount());
+        }
+        return hash;
+    }
+
     @Override
     public void addInfo(String key, String value, Game game) {
         if (info == null) {
@@ -743,6 +769,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         if (!phasedIn && !replaceEvent(EventType.PHASE_IN, game) && (!onlyDirect || !indirectPhase)) {
             this.phasedIn = true;
             this.indirectPhase = false;
+            game.getBattlefield().updateIndexes(this);
             game.informPlayers(getLogName() + " phased in");
             for (UUID attachedId : this.getAttachments()) {
                 Permanent attachedPerm = game.getPermanent(attachedId);
@@ -773,6 +800,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             this.removeFromCombat(game);
             this.phasedIn = false;
             this.indirectPhase = indirectPhase;
+            game.getBattlefield().updateIndexes(this);
             game.informPlayers(getLogName() + " phased out");
             fireEvent(EventType.PHASED_OUT, game);
             return true;
@@ -863,6 +891,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         // must change abilities controller too
         this.controllerId = newControllerId;
         this.getAbilities().setControllerId(newControllerId);
+        game.getBattlefield().updateIndexes(this);
         return true;
     }
 
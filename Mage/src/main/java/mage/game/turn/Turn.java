@@ -10,6 +10,7 @@ import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
 import mage.game.stack.StackObject;
 import mage.players.Player;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 
 import java.io.Serializable;
@@ -387,6 +388,12 @@ public class Turn implements Serializable {
         return sb.toString();
     }
 
+    public long getHash(int turnNum) {
+        long hash = StateHashUtil.add(0, turnNum);
+        hash = StateHashUtil.add(hash, currentPhase.getType());
+        return StateHashUtil.add(hash, currentPhase.getStep().getType());
+    }
+
     private void logStartOfTurn(Game game, Player player) {
         // example: 0:40: TURN 1 for Human (40 - 40)
 
@@ -0,0 +1,153 @@
+package mage.players;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI: server wide stats of AI decisions (search nodes, game copies, time spent in game copy, evaluation and rules),
+ * it helps to find why some AI players think too long
+ * <p>
+ * Thread safe, AI players from all games add it after each decision
+ */
+public final class AiSearchStats {
+
+    private static final int MAX_LAST_DECISIONS = 50;
+
+    private static final Map<String, Totals> totals = new ConcurrentHashMap<>(); // ai type -> totals
+    private static final Deque<Decision> lastDecisions = new ArrayDeque<>();
+
+    private AiSearchStats() {
+    }
+
+    public static final class Decision {
+
+        private final String aiType;
+        private final String playerName;
+        private final int nodes;
+        private final int depth;
+        private final int gameCopies;
+        private final long copyNanos;
+        private final long evaluationNanos;
+        private final long rulesNanos;
+        private final long totalNanos;
+        private final boolean timeout;
+
+        public Decision(String aiType, String playerName, int nodes, int depth, int gameCopies,
+                        long copyNanos, long evaluationNanos, long rulesNanos, long totalNanos, boolean timeout) {
+            this.aiType = aiType;
+            this.playerName = playerName;
+            this.nodes = nodes;
+            this.depth = depth;
+            this.gameCopies = gameCopies;
+            this.copyNanos = copyNanos;
+            this.evaluationNanos = evaluationNanos;
+            this.rulesNanos = rulesNanos;
+            this.totalNanos = totalNanos;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s, %s: %s, nodes %d, depth %d, game copies %d, time %d ms (copy %d ms, evaluation %d ms, rules %d ms)",
+                    aiType,
+                    playerName,
+                    timeout ? "TIMEOUT" : "done",
+                    nodes,
+                    depth,
+                    gameCopies,
+                    toMillis(totalNanos),
+                    toMillis(copyNanos),
+                    toMillis(evaluationNanos),
+                    toMillis(rulesNanos)
+            );
+        }
+    }
+
+    private static final class Totals {
+
+        private final LongAdder decisions = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder nodes = new LongAdder();
+        private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+        private final LongAdder gameCopies = new LongAdder();
+        private final LongAdder copyNanos = new LongAdder();
+        private final LongAdder evaluationNanos = new LongAdder();
+        private final LongAdder rulesNanos = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(Decision decision) {
+            decisions.increment();
+            if (decision.timeout) {
+                timeouts.increment();
+            }
+            nodes.add(decision.nodes);
+            maxDepth.accumulate(decision.depth);
+            gameCopies.add(decision.gameCopies);
+            copyNanos.add(decision.copyNanos);
+            evaluationNanos.add(decision.evaluationNanos);
+            rulesNanos.add(decision.rulesNanos);
+            totalNanos.add(decision.totalNanos);
+            maxNanos.accumulate(decision.totalNanos);
+        }
+
+        private String getInfo(String aiType) {
+            long count = Math.max(1, decisions.sum());
+            return String.format("%s: decisions %d, timeouts %d, avg nodes %d, max depth %d, avg game copies %d, "
+                            + "avg time %d ms (copy %d ms, evaluation %d ms, rules %d ms), max time %d ms",
+                    aiType,
+                    decisions.sum(),
+                    timeouts.sum(),
+                    nodes.sum() / count,
+                    maxDepth.get(),
+                    gameCopies.sum() / count,
+                    toMillis(totalNanos.sum() / count),
+                    toMillis(copyNanos.sum() / count),
+                    toMillis(evaluationNanos.sum() / count),
+                    toMillis(rulesNanos.sum() / count),
+                    toMillis(maxNanos.get())
+            );
+        }
+    }
+
+    public static void addDecision(Decision decision) {
+        totals.computeIfAbsent(decision.aiType, k -> new Totals()).add(decision);
+        synchronized (lastDecisions) {
+            lastDecisions.addFirst(decision);
+            if (lastDecisions.size() > MAX_LAST_DECISIONS) {
+                lastDecisions.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Stats info for admins: totals by AI types and last decisions
+     */
+    public static List<String> getInfo() {
+        List<String> res = new ArrayList<>();
+        totals.forEach((aiType, aiTotals) -> res.add(aiTotals.getInfo(aiType)));
+        res.add("Last decisions:");
+        synchronized (lastDecisions) {
+            lastDecisions.forEach(decision -> res.add(" - " + decision));
+        }
+        return res;
+    }
+
+    public static void clear() {
+        totals.clear();
+        synchronized (lastDecisions) {
+            lastDecisions.clear();
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
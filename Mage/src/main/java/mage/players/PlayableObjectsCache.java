@@ -0,0 +1,33 @@
+package mage.players;
+
+import mage.constants.Zone;
+
+/**
+ * Last calculated playable objects of the player
+ * <p>
+ * Playable calculation checks all abilities with all available mana, but GUI asks it on each game view update,
+ * so it keeps result for game state's version (any game change makes a new version). Player's copies share
+ * same cache (game views and AI work with game copies).
+ */
+public class PlayableObjectsCache {
+
+    private long version;
+    private Zone zone;
+    private PlayableObjectsList playableObjects;
+
+    /**
+     * @return copy of cached playable objects or null
+     */
+    public synchronized PlayableObjectsList get(long version, Zone zone) {
+        if (playableObjects == null || this.version != version || this.zone != zone) {
+            return null;
+        }
+        return playableObjects.copy();
+    }
+
+    public synchronized void put(long version, Zone zone, PlayableObjectsList playableObjects) {
+        this.version = version;
+        this.zone = zone;
+        this.playableObjects = playableObjects.copy();
+    }
+}
@@ -196,6 +196,9 @@ public abstract class PlayerImpl implements Player, Serializable {
     // mana colors the player can handle like Phyrexian mana
     protected FilterMana phyrexianColors;
 
+    // shared between player's copies (no needs in copy)
+    protected transient PlayableObjectsCache playableObjectsCache = new PlayableObjectsCache();
+
     // Used during available mana calculation to give back possible available net mana from triggered mana abilities (No need to copy)
     protected final List<List<Mana>> availableTriggeredManaList = new ArrayList<>();
 
@@ -297,6 +300,7 @@ public abstract class PlayerImpl implements Player, Serializable {
         this.castSourceIdCosts = CardUtil.deepCopyObject(player.castSourceIdCosts);
 
         this.payManaMode = player.payManaMode;
+        this.playableObjectsCache = player.playableObjectsCache;
         this.phyrexianColors = player.getPhyrexianColors() != null ? player.phyrexianColors.copy() : null;
         this.designations = CardUtil.deepCopyObject(player.designations);
     }
@@ -4452,6 +4456,17 @@ public abstract class PlayerImpl implements Player, Serializable {
      */
     @Override
     public PlayableObjectsList getPlayableObjects(Game game, Zone zone) {
+        // same game state - same playable objects (GUI asks it on each game view update)
+        long stateVersion = game.getState().getVersion();
+        if (playableObjectsCache == null) {
+            // after deserialization
+            playableObjectsCache = new PlayableObjectsCache();
+        }
+        PlayableObjectsList cached = playableObjectsCache.get(stateVersion, zone);
+        if (cached != null) {
+            return cached;
+        }
+
         // collect abilities per object
         List<ActivatedAbility> playableAbilities = getPlayable(game, true, zone, false); // do not hide duplicated abilities/cards
         Map<UUID, List<ActivatedAbility>> playableObjects = new HashMap<>();
@@ -4479,7 +4494,9 @@ public abstract class PlayerImpl implements Player, Serializable {
                 throw new IllegalStateException("Wrong code usage: ability without source id");
             }
         }
-        return new PlayableObjectsList(playableObjects);
+        PlayableObjectsList res = new PlayableObjectsList(playableObjects);
+        playableObjectsCache.put(stateVersion, zone, res);
+        return res;
     }
 
     private void putToPlayableObjects(Map<UUID, List<ActivatedAbility>> playableObjects, UUID objectId, ActivatedAbility ability) {
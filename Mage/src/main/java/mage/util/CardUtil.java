@@ -1981,6 +1981,9 @@ public final class CardUtil {
     /**
      * Make deep copy of any object (supported by xmage)
      * <p>
+     * Shared references inside the copied structure stay shared in the result
+     * (e.g. same list stored under two keys of a map will be copied only one time).
+     * <p>
      * Warning, don't use self reference objects because it will raise StackOverflowError
      *
      * @param value
@@ -1988,114 +1991,154 @@ public final class CardUtil {
      * @return
      */
     public static <T> T deepCopyObject(T value) {
+        return deepCopyObject(value, null);
+    }
+
+    /**
+     * @param copied already copied objects (original -> copy), can be null for single object copy
+     */
+    private static <T> T deepCopyObject(T value, Map<Object, Object> copied) {
         if (isImmutableObject(value)) {
             return value;
-        } else if (value instanceof Copyable) {
-            return (T) ((Copyable<T>) value).copy();
+        }
+        if (copied != null) {
+            Object copy = copied.get(value);
+            if (copy != null) {
+                return (T) copy;
+            }
+        }
+
+        T copy;
+        if (value instanceof Copyable) {
+            copy = (T) ((Copyable<T>) value).copy();
         } else if (value instanceof Watcher) {
-            return (T) ((Watcher) value).copy();
+            copy = (T) ((Watcher) value).copy();
         } else if (value instanceof Ability) {
-            return (T) ((Ability) value).copy();
+            copy = (T) ((Ability) value).copy();
         } else if (value instanceof PlayerList) {
-            return (T) ((PlayerList) value).copy();
+            copy = (T) ((PlayerList) value).copy();
         } else if (value instanceof EnumSet) {
-            return (T) ((EnumSet) value).clone();
+            copy = (T) ((EnumSet) value).clone();
         } else if (value instanceof EnumMap) {
-            return (T) deepCopyEnumMap((EnumMap) value);
+            copy = (T) deepCopyEnumMap((EnumMap) value, copied);
         } else if (value instanceof LinkedHashSet) {
-            return (T) deepCopyLinkedHashSet((LinkedHashSet) value);
+            copy = (T) deepCopyLinkedHashSet((LinkedHashSet) value, copied);
         } else if (value instanceof LinkedHashMap) {
-            return (T) deepCopyLinkedHashMap((LinkedHashMap) value);
+            copy = (T) deepCopyLinkedHashMap((LinkedHashMap) value, copied);
         } else if (value instanceof TreeSet) {
-            return (T) deepCopyTreeSet((TreeSet) value);
+            copy = (T) deepCopyTreeSet((TreeSet) value, copied);
         } else if (value instanceof HashSet) {
-            return (T) deepCopyHashSet((HashSet) value);
+            copy = (T) deepCopyHashSet((HashSet) value, copied);
         } else if (value instanceof HashMap) {
-            return (T) deepCopyHashMap((HashMap) value);
+            copy = (T) deepCopyHashMap((HashMap) value, copied);
         } else if (value instanceof List) {
-            return (T) deepCopyList((List) value);
+            copy = (T) deepCopyList((List) value, copied);
         } else if (value instanceof AbstractMap.SimpleImmutableEntry) { //Used by Leonin Arbiter, Vessel Of The All Consuming Wanderer as a generic Pair class
             AbstractMap.SimpleImmutableEntry entryValue = (AbstractMap.SimpleImmutableEntry) value;
-            return (T) new AbstractMap.SimpleImmutableEntry(deepCopyObject(entryValue.getKey()), deepCopyObject(entryValue.getValue()));
+            copied = prepareCopied(copied, 2);
+            copy = (T) new AbstractMap.SimpleImmutableEntry(deepCopyObject(entryValue.getKey(), copied), deepCopyObject(entryValue.getValue(), copied));
         } else {
             // warning, do not add unnecessarily new data types and structures to game engine, try to use only standard types (see above)
             throw new IllegalStateException("Unhandled object " + value.getClass().getSimpleName() + " during deep copy, must add explicit handling of all Object types");
         }
+
+        // register after full copy, so self references still fail fast instead of returning half-copied objects
+        if (copied != null) {
+            copied.put(value, copy);
+        }
+        return copy;
+    }
+
+    /**
+     * Identity map is required only for containers with inner objects, so skip allocation for empty ones
+     */
+    private static Map<Object, Object> prepareCopied(Map<Object, Object> copied, int size) {
+        if (copied == null && size > 0) {
+            return new IdentityHashMap<>();
+        }
+        return copied;
     }
 
-    private static <T extends Comparable<T>> TreeSet<T> deepCopyTreeSet(TreeSet<T> original) {
+    private static <T extends Comparable<T>> TreeSet<T> deepCopyTreeSet(TreeSet<T> original, Map<Object, Object> copied) {
         if (original.getClass() != TreeSet.class) {
             throw new IllegalStateException("Unhandled TreeSet type " + original.getClass().getSimpleName() + " in deep copy");
         }
+        copied = prepareCopied(copied, original.size());
         TreeSet<T> newSet = new TreeSet<>();
         for (T value : original) {
-            newSet.add((T) deepCopyObject(value));
+            newSet.add((T) deepCopyObject(value, copied));
         }
         return newSet;
     }
 
-    private static <T> HashSet<T> deepCopyHashSet(Set<T> original) {
+    private static <T> HashSet<T> deepCopyHashSet(Set<T> original, Map<Object, Object> copied) {
         if (original.getClass() != HashSet.class) {
             throw new IllegalStateException("Unhandled HashSet type " + original.getClass().getSimpleName() + " in deep copy");
         }
+        copied = prepareCopied(copied, original.size());
         HashSet<T> newSet = new HashSet<>(original.size());
         for (T value : original) {
-            newSet.add((T) deepCopyObject(value));
+            newSet.add((T) deepCopyObject(value, copied));
         }
         return newSet;
     }
 
-    private static <T> LinkedHashSet<T> deepCopyLinkedHashSet(LinkedHashSet<T> original) {
+    private static <T> LinkedHashSet<T> deepCopyLinkedHashSet(LinkedHashSet<T> original, Map<Object, Object> copied) {
         if (original.getClass() != LinkedHashSet.class) {
             throw new IllegalStateException("Unhandled LinkedHashSet type " + original.getClass().getSimpleName() + " in deep copy");
         }
+        copied = prepareCopied(copied, original.size());
         LinkedHashSet<T> newSet = new LinkedHashSet<>(original.size());
         for (T value : original) {
-            newSet.add((T) deepCopyObject(value));
+            newSet.add((T) deepCopyObject(value, copied));
         }
         return newSet;
     }
 
-    private static <T> List<T> deepCopyList(List<T> original) { //always returns an ArrayList
+    private static <T> List<T> deepCopyList(List<T> original, Map<Object, Object> copied) { //always returns an ArrayList
         if (original.getClass() != ArrayList.class) {
             throw new IllegalStateException("Unhandled List type " + original.getClass().getSimpleName() + " in deep copy");
         }
+        copied = prepareCopied(copied, original.size());
         ArrayList<T> newList = new ArrayList<>(original.size());
         for (T value : original) {
-            newList.add((T) deepCopyObject(value));
+            newList.add((T) deepCopyObject(value, copied));
         }
         return newList;
     }
 
-    private static <K, V> HashMap<K, V> deepCopyHashMap(Map<K, V> original) {
+    private static <K, V> HashMap<K, V> deepCopyHashMap(Map<K, V> original, Map<Object, Object> copied) {
         if (original.getClass() != HashMap.class) {
             throw new IllegalStateException("Unhandled HashMap type " + original.getClass().getSimpleName() + " in deep copy");
         }
+        copied = prepareCopied(copied, original.size());
         HashMap<K, V> newMap = new HashMap<>(original.size());
         for (Map.Entry<K, V> entry : original.entrySet()) {
-            newMap.put((K) deepCopyObject(entry.getKey()), (V) deepCopyObject(entry.getValue()));
+            newMap.put((K) deepCopyObject(entry.getKey(), copied), (V) deepCopyObject(entry.getValue(), copied));
         }
         return newMap;
     }
 
-    private static <K, V> LinkedHashMap<K, V> deepCopyLinkedHashMap(Map<K, V> original) {
+    private static <K, V> LinkedHashMap<K, V> deepCopyLinkedHashMap(Map<K, V> original, Map<Object, Object> copied) {
         if (original.getClass() != LinkedHashMap.class) {
             throw new IllegalStateException("Unhandled LinkedHashMap type " + original.getClass().getSimpleName() + " in deep copy");
         }
+        copied = prepareCopied(copied, original.size());
         LinkedHashMap<K, V> newMap = new LinkedHashMap<>(original.size());
         for (Map.Entry<K, V> entry : original.entrySet()) {
-            newMap.put((K) deepCopyObject(entry.getKey()), (V) deepCopyObject(entry.getValue()));
+            newMap.put((K) deepCopyObject(entry.getKey(), copied), (V) deepCopyObject(entry.getValue(), copied));
         }
         return newMap;
     }
 
-    private static <K extends Enum<K>, V> EnumMap<K, V> deepCopyEnumMap(Map<K, V> original) {
+    private static <K extends Enum<K>, V> EnumMap<K, V> deepCopyEnumMap(Map<K, V> original, Map<Object, Object> copied) {
         if (original.getClass() != EnumMap.class) {
             throw new IllegalStateException("Unhandled EnumMap type " + original.getClass().getSimpleName() + " in deep copy");
         }
+        copied = prepareCopied(copied, original.size());
         EnumMap<K, V> newMap = new EnumMap<>(original);
         for (Map.Entry<K, V> entry : newMap.entrySet()) {
-            entry.setValue((V) deepCopyObject(entry.getValue()));
+            entry.setValue((V) deepCopyObject(entry.getValue(), copied));
         }
         return newMap;
     }
@@ -0,0 +1,152 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Component: map with cheap copy for game state (structural sharing until first write)
+ * <p>
+ * Copy shares inner data with the original, so it costs O(1). Real data copy will be
+ * made on first write by any side (original or copy).
+ * <p>
+ * Warning, use it for immutable values only (ids, zones, numbers, etc), values are not copied at all
+ * <p>
+ * Warning, keySet/values/entrySet are read only views
+ */
+public class CopyOnWriteMap<K, V> implements Map<K, V>, Copyable<CopyOnWriteMap<K, V>>, Serializable {
+
+    private Map<K, V> map;
+    private volatile boolean shared; // copies can be made from other threads (AI simulations)
+
+    public CopyOnWriteMap() {
+        this.map = new HashMap<>();
+        this.shared = false;
+    }
+
+    protected CopyOnWriteMap(final CopyOnWriteMap<K, V> source) {
+        // source must know about sharing before the data will be used by the copy
+        source.shared = true;
+        this.shared = true;
+        this.map = source.map;
+    }
+
+    @Override
+    public CopyOnWriteMap<K, V> copy() {
+        return new CopyOnWriteMap<>(this);
+    }
+
+    private Map<K, V> getForWrite() {
+        if (shared) {
+            map = new HashMap<>(map);
+            shared = false;
+        }
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        map.forEach(action);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return getForWrite().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!map.containsKey(key)) {
+            return null;
+        }
+        return getForWrite().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (m.isEmpty()) {
+            return;
+        }
+        getForWrite().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            // no needs in data copy, just detach from shared data
+            map = new HashMap<>();
+            shared = false;
+        } else {
+            map.clear();
+        }
+    }
+
+    /**
+     * Read only view, so iteration doesn't detach the map from shared data (use map methods for changes)
+     */
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableMap(map).keySet();
+    }
+
+    /**
+     * Read only view, so iteration doesn't detach the map from shared data (use map methods for changes)
+     */
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableMap(map).values();
+    }
+
+    /**
+     * Read only view, so iteration doesn't detach the map from shared data (use map methods for changes)
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(map).entrySet();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return map.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+}
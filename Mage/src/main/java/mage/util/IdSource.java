@@ -0,0 +1,59 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fast ids generator for game objects (abilities, effects, events, etc), it's used instead UUID.randomUUID,
+ * so game and AI threads don't wait each other on shared SecureRandom lock
+ * <p>
+ * Id = unique salt of the source (high bits) + counter (low bits), so ids are unique within the source
+ * and different sources never give same ids. Game's source uses RandomUtil and game index for salt, so
+ * same seed gives same ids for same games. Not for security related usage.
+ * <p>
+ * Thread safe.
+ */
+public final class IdSource implements Serializable {
+
+    // salts of the non game sources (threads, AI simulations) must not use seeded random, so it uses global
+    // sequence with random start
+    private static final AtomicLong saltSequence = new AtomicLong(new SecureRandom().nextLong());
+
+    private final long salt;
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * Source for non game usage (threads, AI simulations)
+     */
+    public IdSource() {
+        this(StateHashUtil.mix(saltSequence.incrementAndGet()));
+    }
+
+    /**
+     * @param seed  random value (same seed gives same ids)
+     * @param index unique index of the source (e.g. game index), so same seed gives different ids in different games
+     */
+    public IdSource(long seed, long index) {
+        this(StateHashUtil.mix(seed ^ StateHashUtil.mix(index)));
+    }
+
+    private IdSource(long salt) {
+        // version 4 bits, so it looks like usual random UUID
+        this.salt = (salt & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+    }
+
+    /**
+     * Game's source, it's deterministic for seeded games (see RandomUtil.setSeed)
+     */
+    public static IdSource createForGame(long gameIndex) {
+        return new IdSource(RandomUtil.getRandom().nextLong(), gameIndex);
+    }
+
+    public UUID nextId() {
+        // IETF variant bits, 62 bits for counter
+        long count = counter.incrementAndGet();
+        return new UUID(salt, (count & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+}
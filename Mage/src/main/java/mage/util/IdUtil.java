@@ -0,0 +1,59 @@
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * Ids for game objects from the id source of the current game
+ * <p>
+ * Game objects like events have no game reference, so game binds own source to the thread while game code
+ * runs (start/resume, AI simulations) and restores previous source after it. Threads without game
+ * (deck loading, server threads, etc) use own source.
+ * <p>
+ * Usage:
+ * <pre>
+ * IdSource prevIdSource = IdUtil.bindSource(game.getIdSource());
+ * try {
+ *     ...
+ * } finally {
+ *     IdUtil.restoreSource(prevIdSource);
+ * }
+ * </pre>
+ */
+public final class IdUtil {
+
+    private static final ThreadLocal<IdSource> threadSource = ThreadLocal.withInitial(IdSource::new);
+    private static final ThreadLocal<IdSource> gameSource = new ThreadLocal<>();
+
+    private IdUtil() {
+    }
+
+    public static UUID newId() {
+        IdSource source = gameSource.get();
+        if (source == null) {
+            source = threadSource.get();
+        }
+        return source.nextId();
+    }
+
+    /**
+     * Use ids source of the game in current thread
+     *
+     * @return previous source of the thread, must be restored by restoreSource
+     */
+    public static IdSource bindSource(IdSource source) {
+        IdSource prevSource = gameSource.get();
+        gameSource.set(source);
+        return prevSource;
+    }
+
+    /**
+     * @param prevSource result of bindSource (null - thread has no game source)
+     */
+    public static void restoreSource(IdSource prevSource) {
+        if (prevSource == null) {
+            gameSource.remove();
+        } else {
+            gameSource.set(prevSource);
+        }
+    }
+}
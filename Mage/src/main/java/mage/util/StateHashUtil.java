@@ -0,0 +1,86 @@
+package mage.util;
+
+import mage.abilities.Ability;
+import mage.abilities.effects.Effect;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * AI related: 64-bit hashes of game objects to find same game states without strings building
+ * <p>
+ * Ordered data must be added by add methods one by one, unordered data (permanents, cards in graveyard, etc)
+ * must be combined by addUnordered, so it gives same hash for any order of the items.
+ * <p>
+ * Hashes are in-memory only (it uses class hashes), don't save it between app runs.
+ */
+public final class StateHashUtil {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private StateHashUtil() {
+    }
+
+    /**
+     * Bits mixing from SplitMix64, so close values give very different hashes
+     */
+    public static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    public static long add(long hash, long value) {
+        return mix(hash * 31 + value + SEED);
+    }
+
+    public static long add(long hash, boolean value) {
+        return add(hash, value ? 1 : 0);
+    }
+
+    public static long add(long hash, String text) {
+        return add(hash, text == null ? 0 : text.hashCode());
+    }
+
+    public static long add(long hash, Enum<?> value) {
+        return add(hash, value == null ? -1 : value.ordinal());
+    }
+
+    public static long add(long hash, Class<?> clazz) {
+        return add(hash, clazz.hashCode());
+    }
+
+    public static long add(long hash, UUID id) {
+        if (id == null) {
+            return add(hash, 0);
+        }
+        return add(add(hash, id.getMostSignificantBits()), id.getLeastSignificantBits());
+    }
+
+    public static long add(long hash, Collection<UUID> ids) {
+        hash = add(hash, ids.size());
+        for (UUID id : ids) {
+            hash = add(hash, id);
+        }
+        return hash;
+    }
+
+    /**
+     * Abilities with same classes and effects classes are same (ids are different for tokens and gained abilities,
+     * rules texts are too slow)
+     */
+    public static long add(long hash, Ability ability) {
+        hash = add(hash, ability.getClass());
+        for (Effect effect : ability.getEffects()) {
+            hash = add(hash, effect.getClass());
+        }
+        return hash;
+    }
+
+    /**
+     * Commutative combine (same items in any order give same hash, same items don't cancel each other)
+     */
+    public static long addUnordered(long hashesSum, long itemHash) {
+        return hashesSum + mix(itemHash);
+    }
+}
@@ -1,5 +1,8 @@
 package mage.util;
 
+import org.apache.log4j.Logger;
+
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -10,9 +13,12 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class XmageThreadFactory implements ThreadFactory {
 
+    private static final Logger logger = Logger.getLogger(XmageThreadFactory.class);
+
     private final String prefix;
     private final AtomicInteger counter = new AtomicInteger();
     private final boolean isDaemon;
+    private final ThreadFactory virtualThreadFactory; // null for OS threads
 
     public XmageThreadFactory(String prefix) {
         this(prefix, true);
@@ -23,16 +29,54 @@ public class XmageThreadFactory implements ThreadFactory {
      * @param isDaemon mark thread as daemon on non-writeable tasks (e.g. can be terminated at any time without data loss)
      */
     public XmageThreadFactory(String prefix, boolean isDaemon) {
+        this(prefix, isDaemon, false);
+    }
+
+    /**
+     * @param useVirtualThreads create virtual threads instead OS threads (java 21+ only, virtual threads are always daemon),
+     *                          use it for long waiting tasks like games with human players
+     */
+    public XmageThreadFactory(String prefix, boolean isDaemon, boolean useVirtualThreads) {
         this.prefix = prefix;
         this.isDaemon = isDaemon;
+        this.virtualThreadFactory = useVirtualThreads ? createVirtualThreadFactory() : null;
+    }
+
+    public boolean isVirtual() {
+        return this.virtualThreadFactory != null;
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return createVirtualThreadFactory() != null;
+    }
+
+    /**
+     * Code compiles for java 8, so virtual threads api calls by reflection: Thread.ofVirtual().factory()
+     *
+     * @return null on unsupported java
+     */
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(ofVirtual.invoke(null));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.debug("Virtual threads unsupported: " + e);
+            return null;
+        }
     }
 
     @Override
     public Thread newThread(Runnable r) {
         int instanceNumber = this.counter.incrementAndGet();
 
-        Thread thread = new Thread(r);
-        thread.setDaemon(this.isDaemon);
+        Thread thread;
+        if (this.virtualThreadFactory != null) {
+            thread = this.virtualThreadFactory.newThread(r);
+        } else {
+            thread = new Thread(r);
+            thread.setDaemon(this.isDaemon);
+        }
 
         // gives default name, but threads can change it by Thread.currentThread().setName (example: on game or tourney start)
         thread.setName(String.format("%s - %d", this.prefix, instanceNumber));
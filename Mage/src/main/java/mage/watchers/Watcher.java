@@ -78,6 +78,16 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * Optimization: all event types used by watch, so events dispatch can skip
+     * unrelated events. Return null if it depends on non type data.
+     * <p>
+     * Warning, it will be ignored if child class overrides watch without new types list
+     */
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return null;
+    }
+
     public <T extends Watcher> T copy() {
         try {
             //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
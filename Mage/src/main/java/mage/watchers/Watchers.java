@@ -2,10 +2,13 @@ package mage.watchers;
 
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEventTypeIndex;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -14,6 +17,15 @@ public class Watchers extends HashMap<String, Watcher> {
 
     private static final Logger logger = LogManager.getLogger(Watcher.class.getSimpleName());
 
+    // events dispatch optimization: watchers by event types, must be reset on any watchers list changes
+    private transient GameEventTypeIndex<Watcher> eventTypeIndex = null;
+    private static final ClassValue<Boolean> eventTypesActual = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return GameEventTypeIndex.isTypesDeclarationActual(type, "getWatchEventTypes", "watch", GameEvent.class, Game.class);
+        }
+    };
+
     public Watchers() {
     }
 
@@ -33,11 +45,60 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        for (Watcher watcher : getEventTypeIndex().get(event.getType())) {
             watcher.watch(event, game);
         }
     }
 
+    private GameEventTypeIndex<Watcher> getEventTypeIndex() {
+        if (this.eventTypeIndex == null) {
+            this.eventTypeIndex = new GameEventTypeIndex<>(this.values(), Watchers::getActualWatchEventTypes);
+        }
+        return this.eventTypeIndex;
+    }
+
+    private static Set<GameEvent.EventType> getActualWatchEventTypes(Watcher watcher) {
+        Set<GameEvent.EventType> types = watcher.getWatchEventTypes();
+        if (types == null || !eventTypesActual.get(watcher.getClass())) {
+            return null;
+        }
+        return types;
+    }
+
+    @Override
+    public Watcher put(String key, Watcher value) {
+        this.eventTypeIndex = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public Watcher putIfAbsent(String key, Watcher value) {
+        if (!containsKey(key)) {
+            this.eventTypeIndex = null;
+        }
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        if (containsKey(key)) {
+            this.eventTypeIndex = null;
+        }
+        return super.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Watcher> m) {
+        this.eventTypeIndex = null;
+        super.putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        this.eventTypeIndex = null;
+        super.clear();
+    }
+
     public void reset() {
         this.values().forEach(Watcher::reset);
     }
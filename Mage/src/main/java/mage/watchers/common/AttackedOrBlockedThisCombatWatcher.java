@@ -6,6 +6,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -36,6 +37,15 @@ public class AttackedOrBlockedThisCombatWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(
+                GameEvent.EventType.BEGIN_COMBAT_STEP_PRE,
+                GameEvent.EventType.ATTACKER_DECLARED,
+                GameEvent.EventType.BLOCKER_DECLARED
+        );
+    }
+
     public Set<MageObjectReference> getAttackedThisTurnCreatures() {
         return this.attackedThisTurnCreatures;
     }
@@ -45,6 +45,15 @@ public class BlockingOrBlockedWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(
+                GameEvent.EventType.BLOCKER_DECLARED,
+                GameEvent.EventType.END_COMBAT_STEP_POST,
+                GameEvent.EventType.REMOVED_FROM_COMBAT
+        );
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -7,6 +7,9 @@ import mage.game.events.DamagedPlayerEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
+import java.util.Set;
+
 
 /**
  * Must be installed to player for proper Bloodthirst work
@@ -31,4 +34,9 @@ public class BloodthirstWatcher extends Watcher {
             }
         }
     }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return Collections.singleton(GameEvent.EventType.DAMAGED_PLAYER);
+    }
 }
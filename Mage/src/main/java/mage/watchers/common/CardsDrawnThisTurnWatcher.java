@@ -5,8 +5,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -32,6 +34,11 @@ public class CardsDrawnThisTurnWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return Collections.singleton(GameEvent.EventType.DREW_CARD);
+    }
+
     public int getCardsDrawnThisTurn(UUID playerId) {
         return cardsDrawnThisTurn.getOrDefault(playerId, 0);
     }
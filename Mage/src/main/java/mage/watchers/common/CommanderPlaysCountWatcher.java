@@ -65,6 +65,14 @@ public class CommanderPlaysCountWatcher extends Watcher {
         playerCount.compute(event.getPlayerId(), (u, i) -> i + 1);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(
+                GameEvent.EventType.LAND_PLAYED,
+                GameEvent.EventType.SPELL_CAST
+        );
+    }
+
     public int getPlaysCount(UUID commanderId) {
         return this.playsCount.getOrDefault(commanderId, 0);
     }
@@ -15,8 +15,10 @@ import mage.util.Copyable;
 import mage.watchers.Watcher;
 
 import java.io.Serializable;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -141,6 +143,14 @@ public class ManaPaidSourceWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(
+                GameEvent.EventType.ZONE_CHANGE,
+                GameEvent.EventType.MANA_PAID
+        );
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -8,8 +8,10 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -43,6 +45,11 @@ public class ManaSpentToCastWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return Collections.singleton(GameEvent.EventType.SPELL_CAST);
+    }
+
     public Mana getManaPayment(MageObjectReference source) {
         return manaMap.getOrDefault(source, null);
     }
@@ -7,8 +7,10 @@ import mage.game.events.DieRolledEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /*
@@ -42,6 +44,11 @@ public class PlanarRollWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return Collections.singleton(GameEvent.EventType.DIE_ROLLED);
+    }
+
     public int getNumberTimesPlanarDieRolled(UUID playerId) {
         return numberTimesPlanarDieRolled.getOrDefault(playerId, 0);
     }
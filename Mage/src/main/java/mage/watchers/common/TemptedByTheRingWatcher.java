@@ -6,8 +6,10 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -37,6 +39,14 @@ public class TemptedByTheRingWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(
+                GameEvent.EventType.TEMPTED_BY_RING,
+                GameEvent.EventType.BEGINNING_PHASE_PRE
+        );
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -0,0 +1,66 @@
+package mage.abilities.mana;
+
+import mage.ConditionalMana;
+import mage.Mana;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ManaOptionsTest {
+
+    @Test
+    public void removeFullyIncludedVariationsRandom() {
+        Random random = new Random(42);
+        for (int test = 0; test < 200; test++) {
+            ManaOptions options = new ManaOptions();
+            int size = 1 + random.nextInt(60);
+            for (int i = 0; i < size; i++) {
+                Mana mana = new Mana(random.nextInt(3), random.nextInt(3), random.nextInt(3), random.nextInt(3),
+                        random.nextInt(3), random.nextInt(2), random.nextInt(2), random.nextInt(2));
+                if (random.nextInt(10) == 0) {
+                    // conditional mana must be compared by full logic
+                    mana = new ConditionalMana(mana);
+                }
+                options.add(mana);
+            }
+
+            List<Mana> expected = removeFullyIncludedVariationsByFullCompare(options);
+            options.removeFullyIncludedVariations();
+            assertEquals(expected.toString(), new ArrayList<>(options).toString(), "test " + test);
+        }
+    }
+
+    @Test
+    public void removeFullyIncludedVariationsSimple() {
+        ManaOptions options = new ManaOptions();
+        options.add(Mana.GenericMana(2));
+        options.add(new Mana(1, 0, 0, 0, 0, 1, 0, 0));
+        options.add(Mana.RedMana(1));
+        options.add(Mana.AnyMana(2));
+        options.add(Mana.ColorlessMana(1));
+        options.removeFullyIncludedVariations();
+        assertEquals("[{Any}{Any}, {C}]", new ArrayList<>(options).toString());
+    }
+
+    private static List<Mana> removeFullyIncludedVariationsByFullCompare(ManaOptions options) {
+        // keep all not included variations in original order
+        List<Mana> res = new ArrayList<>();
+        for (Mana mana : options) {
+            boolean included = false;
+            for (Mana other : options) {
+                if (Mana.getMoreValuableMana(mana, other) == other) {
+                    included = true;
+                    break;
+                }
+            }
+            if (!included) {
+                res.add(mana);
+            }
+        }
+        return res;
+    }
+}
@@ -0,0 +1,34 @@
+package mage.filter.predicate;
+
+import mage.MageObject;
+import mage.abilities.keyword.FlyingAbility;
+import mage.constants.CardType;
+import mage.constants.SubType;
+import mage.filter.predicate.mageobject.AbilityPredicate;
+import mage.filter.predicate.mageobject.NamePredicate;
+import mage.filter.predicate.permanent.TappedPredicate;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class PredicatesTest {
+
+    @Test
+    public void testSortByCost() {
+        Predicate<? super Permanent> flying = new AbilityPredicate(FlyingAbility.class);
+        Predicate<? super Permanent> name = new NamePredicate("Test");
+        Predicate<? super Permanent> elf = SubType.ELF.getPredicate();
+        Predicate<? super Permanent> notCreature = Predicates.<MageObject>not(CardType.CREATURE.getPredicate());
+        Predicate<? super Permanent> tapped = TappedPredicate.TAPPED;
+
+        List<Predicate<? super Permanent>> source = Arrays.asList(flying, elf, name, notCreature, tapped);
+        List<Predicate<? super Permanent>> sorted = Predicates.sortByCost(source);
+
+        // cheap predicates goes first, same cost keeps original order
+        Assert.assertEquals(Arrays.asList(notCreature, tapped, elf, flying, name), sorted);
+        Assert.assertEquals("source list must be unchanged", flying, source.get(0));
+    }
+}
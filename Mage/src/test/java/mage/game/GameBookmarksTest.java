@@ -0,0 +1,81 @@
+package mage.game;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GameBookmarksTest {
+
+    @Test
+    public void testBookmarkedStatesKeptByLimit() {
+        FakeGame game = new FakeGame();
+        game.getGameStates().setMaxStates(2);
+
+        int bookmark = game.bookmarkState();
+        for (int i = 0; i < 3; i++) {
+            game.bookmarkState();
+        }
+
+        // all states used by bookmarks
+        assertEquals(4, game.getSavedStateSize());
+        assertEquals(4, game.getGameStates().getSize());
+        assertNotNull(game.getGameStates().get(0));
+
+        // limit works after bookmarks removed
+        game.removeBookmark_v2(bookmark);
+        assertEquals(0, game.getSavedStateSize());
+        assertEquals(0, game.getGameStates().getSize());
+        for (int i = 0; i < 3; i++) {
+            game.saveState(true);
+        }
+        assertEquals(3, game.getGameStates().getSize());
+        assertNull(game.getGameStates().get(0));
+        assertNotNull(game.getGameStates().get(1));
+    }
+
+    @Test
+    public void testUndoPastLimit() {
+        FakeGame game = new FakeGame();
+        game.playerList = game.getState().getPlayerList(); // no players, but restore needs it
+        game.getGameStates().setMaxStates(2);
+
+        int bookmark = game.bookmarkState();
+        for (int i = 0; i < 5; i++) {
+            game.bookmarkState();
+        }
+        assertEquals(6, game.getGameStates().getSize());
+
+        // undo to the oldest bookmark must work after limit
+        assertNotNull(game.restoreState(bookmark, "test"));
+        assertEquals(1, game.getSavedStateSize());
+        assertEquals(1, game.getGameStates().getSize());
+        assertNotNull(game.getGameStates().get(0));
+    }
+
+    @Test(timeout = 10000)
+    public void testRemoveBookmarkOfRemovedByLimitState() {
+        FakeGame game = new FakeGame();
+
+        int bookmark = game.bookmarkState();
+        for (int i = 0; i < 3; i++) {
+            game.bookmarkState();
+        }
+
+        // limit enabled after bookmarks, so bookmarked state already removed
+        game.getGameStates().setMaxStates(2);
+        assertEquals(4, game.getSavedStateSize());
+        assertEquals(4, game.getGameStates().getSize());
+        assertNull(game.getGameStates().get(0));
+
+        // must not freeze
+        game.removeBookmark_v2(bookmark);
+        assertEquals(0, game.getSavedStateSize());
+        assertEquals(2, game.getGameStates().getSize());
+        assertNull(game.getGameStates().get(2));
+
+        // new states must use next indexes
+        game.bookmarkState();
+        assertEquals(3, game.getGameStates().getSize());
+        assertNotNull(game.getGameStates().get(2));
+    }
+}
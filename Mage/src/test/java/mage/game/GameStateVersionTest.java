@@ -0,0 +1,71 @@
+package mage.game;
+
+import mage.constants.Zone;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class GameStateVersionTest {
+
+    @Test
+    public void testVersionChangesOnGameChanges() {
+        GameState state = new GameState();
+        assertNotEquals(state.getVersion(), new GameState().getVersion());
+
+        long version = state.getVersion();
+        state.setZone(UUID.randomUUID(), Zone.HAND);
+        assertNotEquals(version, state.getVersion());
+
+        version = state.getVersion();
+        state.setValue("test", 1);
+        assertNotEquals(version, state.getVersion());
+
+        version = state.getVersion();
+        state.setPriorityPlayerId(UUID.randomUUID());
+        assertNotEquals(version, state.getVersion());
+    }
+
+    @Test
+    public void testVersionIsUniqueForCopies() {
+        GameState state = new GameState();
+        GameState copy = state.copy();
+        assertEquals(state.getVersion(), copy.getVersion());
+
+        // same changes in different copies must give different versions
+        UUID objectId = UUID.randomUUID();
+        state.setZone(objectId, Zone.HAND);
+        copy.setZone(objectId, Zone.HAND);
+        assertNotEquals(state.getVersion(), copy.getVersion());
+
+        // restored state must have version of the saved state
+        GameState saved = state.copy();
+        state.setZone(objectId, Zone.GRAVEYARD);
+        state.restore(saved);
+        assertEquals(saved.getVersion(), state.getVersion());
+
+        // saved state can be restored again, so same changes after restore must give different versions
+        state.setZone(objectId, Zone.EXILED);
+        saved.setZone(objectId, Zone.EXILED);
+        assertNotEquals(saved.getVersion(), state.getVersion());
+    }
+
+    @Test
+    public void testVersionIsUniqueForManyChanges() {
+        GameState state = new GameState();
+        Set<Long> versions = new HashSet<>();
+        versions.add(state.getVersion());
+        for (int i = 0; i < 1000; i++) {
+            state.setValue("test", i);
+            assertTrue(versions.add(state.getVersion()));
+            if (i % 100 == 0) {
+                GameState copy = state.copy();
+                copy.setValue("test", i);
+                assertTrue(versions.add(copy.getVersion()));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package mage.game;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GameStatesTest {
+
+    @Test
+    public void testUnlimitedStates() {
+        GameStates states = new GameStates();
+        for (int i = 0; i < 5; i++) {
+            states.save(new GameState());
+        }
+
+        assertEquals(5, states.getSize());
+        assertNotNull(states.get(0));
+        assertNotNull(states.rollback(2));
+        assertEquals(3, states.getSize());
+        assertNull(states.get(3));
+    }
+
+    @Test
+    public void testLimitedStatesKeepAbsoluteIndexes() {
+        GameStates states = new GameStates();
+        states.setMaxStates(3);
+        for (int i = 0; i < 5; i++) {
+            states.save(new GameState());
+        }
+
+        // oldest states must be removed, but indexes must be same as without limit
+        assertEquals(5, states.getSize());
+        assertNull(states.get(0));
+        assertNull(states.get(1));
+        assertNotNull(states.get(2));
+        assertNotNull(states.get(4));
+
+        // can't rollback to removed state
+        assertNull(states.rollback(1));
+        assertEquals(5, states.getSize());
+
+        assertNotNull(states.rollback(3));
+        assertEquals(4, states.getSize());
+
+        assertEquals(2, states.remove(2));
+        states.save(new GameState());
+        assertEquals(3, states.getSize());
+        assertNotNull(states.get(2));
+
+        states.clear();
+        assertEquals(0, states.getSize());
+    }
+}
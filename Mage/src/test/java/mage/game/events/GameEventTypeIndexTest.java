@@ -0,0 +1,72 @@
+package mage.game.events;
+
+import mage.constants.WatcherScope;
+import mage.game.Game;
+import mage.watchers.Watcher;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class GameEventTypeIndexTest {
+
+    @Test
+    public void testListenersByType() {
+        Map<String, Set<GameEvent.EventType>> listeners = new LinkedHashMap<>();
+        listeners.put("any1", null);
+        listeners.put("cast", EnumSet.of(GameEvent.EventType.SPELL_CAST));
+        listeners.put("any2", null);
+        listeners.put("castOrDraw", EnumSet.of(GameEvent.EventType.SPELL_CAST, GameEvent.EventType.DREW_CARD));
+
+        GameEventTypeIndex<String> index = new GameEventTypeIndex<>(listeners.keySet(), listeners::get);
+
+        // must keep original order
+        assertEquals(Arrays.asList("any1", "cast", "any2", "castOrDraw"), index.getAll());
+        assertEquals(Arrays.asList("any1", "cast", "any2", "castOrDraw"), index.get(GameEvent.EventType.SPELL_CAST));
+        assertEquals(Arrays.asList("any1", "any2", "castOrDraw"), index.get(GameEvent.EventType.DREW_CARD));
+        assertEquals(Arrays.asList("any1", "any2"), index.get(GameEvent.EventType.ZONE_CHANGE));
+    }
+
+    @Test
+    public void testTypesDeclarationMustBeActual() {
+        assertFalse(isActual(TestWatcher.class));
+        assertTrue(isActual(TestTypedWatcher.class));
+        // child class with another watch code can't use parent's types
+        assertFalse(isActual(TestChildWatcher.class));
+    }
+
+    private boolean isActual(Class<? extends Watcher> watcherClass) {
+        return GameEventTypeIndex.isTypesDeclarationActual(watcherClass, "getWatchEventTypes", "watch", GameEvent.class, Game.class);
+    }
+
+    private static class TestWatcher extends Watcher {
+
+        TestWatcher() {
+            super(WatcherScope.GAME);
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+        }
+    }
+
+    private static class TestTypedWatcher extends TestWatcher {
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+        }
+
+        @Override
+        public Set<GameEvent.EventType> getWatchEventTypes() {
+            return Collections.singleton(GameEvent.EventType.SPELL_CAST);
+        }
+    }
+
+    private static class TestChildWatcher extends TestTypedWatcher {
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+        }
+    }
+}
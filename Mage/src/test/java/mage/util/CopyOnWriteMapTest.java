@@ -0,0 +1,56 @@
+package mage.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CopyOnWriteMapTest {
+
+    @Test
+    public void testCopyDoesNotChangeOriginal() {
+        CopyOnWriteMap<String, Integer> map = new CopyOnWriteMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        CopyOnWriteMap<String, Integer> copy = map.copy();
+        copy.put("a", 10);
+        copy.remove("b");
+        assertEquals(Integer.valueOf(1), map.get("a"));
+        assertEquals(Integer.valueOf(2), map.get("b"));
+        assertEquals(1, copy.size());
+
+        // original changes must not go to the copy too
+        map.put("c", 3);
+        assertFalse(copy.containsKey("c"));
+        map.clear();
+        assertEquals(Integer.valueOf(10), copy.get("a"));
+    }
+
+    @Test
+    public void testViewsAreReadOnly() {
+        CopyOnWriteMap<String, Integer> map = new CopyOnWriteMap<>();
+        map.put("a", 1);
+        CopyOnWriteMap<String, Integer> copy = map.copy();
+
+        int sum = 0;
+        for (Integer value : copy.values()) {
+            sum += value;
+        }
+        assertEquals(1, sum);
+        assertEquals(1, copy.keySet().size());
+
+        try {
+            copy.entrySet().iterator().next().setValue(2);
+            fail("views must be read only");
+        } catch (UnsupportedOperationException e) {
+            // ok
+        }
+        try {
+            copy.keySet().remove("a");
+            fail("views must be read only");
+        } catch (UnsupportedOperationException e) {
+            // ok
+        }
+        assertEquals(Integer.valueOf(1), map.get("a"));
+    }
+}